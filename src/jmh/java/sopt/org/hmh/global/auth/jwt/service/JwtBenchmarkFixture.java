@@ -0,0 +1,33 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import java.lang.reflect.Field;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 스프링 컨텍스트 없이 벤치마크에서 사용할 JWT 컴포넌트를 만듭니다.
+ */
+final class JwtBenchmarkFixture {
+
+    static final String JWT_SECRET = "hmh-benchmark-secret-key-which-is-long-enough-for-hs256";
+    static final long ACCESS_TOKEN_EXPIRATION_TIME = 3_600_000L;
+    static final long REFRESH_TOKEN_EXPIRATION_TIME = 1_209_600_000L;
+
+    private JwtBenchmarkFixture() {
+    }
+
+    static JwtGenerator createJwtGenerator() {
+        JwtGenerator jwtGenerator = new JwtGenerator();
+        setField(jwtGenerator, "JWT_SECRET", JWT_SECRET);
+        setField(jwtGenerator, "ACCESS_TOKEN_EXPIRATION_TIME", ACCESS_TOKEN_EXPIRATION_TIME);
+        setField(jwtGenerator, "REFRESH_TOKEN_EXPIRATION_TIME", REFRESH_TOKEN_EXPIRATION_TIME);
+        setField(jwtGenerator, "ADMIN_ACCESS_TOKEN_EXPIRATION_TIME", ACCESS_TOKEN_EXPIRATION_TIME);
+        jwtGenerator.init();
+        return jwtGenerator;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
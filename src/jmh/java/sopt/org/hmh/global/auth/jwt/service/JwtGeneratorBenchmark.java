@@ -0,0 +1,78 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 토큰 발급·검증 처리량(tokens/sec)을 측정합니다.
+ * rebuilding* 벤치마크는 호출마다 키와 파서를 새로 만들던 이전 방식을 재현한 비교 기준입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtGeneratorBenchmark {
+
+    private static final String SUBJECT_ID = "1";
+
+    private JwtGenerator jwtGenerator;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        this.jwtGenerator = JwtBenchmarkFixture.createJwtGenerator();
+        this.accessToken = jwtGenerator.generateToken(SUBJECT_ID, UUID.randomUUID().toString(), false);
+    }
+
+    @Benchmark
+    public String issueWithCachedKey() {
+        return jwtGenerator.generateToken(SUBJECT_ID, UUID.randomUUID().toString(), false);
+    }
+
+    @Benchmark
+    public Claims verifyWithCachedParser() {
+        return jwtGenerator.getJwtParser().parseClaimsJws(accessToken).getBody();
+    }
+
+    @Benchmark
+    public String issueRebuildingKey() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setSubject(SUBJECT_ID)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + JwtBenchmarkFixture.ACCESS_TOKEN_EXPIRATION_TIME))
+                .signWith(createSigningKey())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verifyRebuildingParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(createSigningKey())
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody();
+    }
+
+    private SecretKey createSigningKey() {
+        String encodedSecret = Base64.getEncoder()
+                .encodeToString(JwtBenchmarkFixture.JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        return Keys.hmacShaKeyFor(encodedSecret.getBytes());
+    }
+}
@@ -0,0 +1,88 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import sopt.org.hmh.domain.auth.dto.response.ReissueResponse;
+import sopt.org.hmh.global.auth.jwt.JwtConstants;
+import sopt.org.hmh.global.auth.jwt.domain.RevokedToken;
+import sopt.org.hmh.global.auth.jwt.repository.RevokedTokenRepository;
+
+/**
+ * 토큰 재발급 처리량을 측정합니다.
+ * 재발급마다 이전 리프레시 토큰을 폐기하므로, 스레드마다 직전에 받은 리프레시 토큰으로 다시 재발급하고
+ * 폐기 토큰 저장소는 메모리 구현으로 대체합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class TokenReissueBenchmark {
+
+    private TokenService tokenService;
+
+    @Setup
+    public void setUp() {
+        JwtGenerator jwtGenerator = JwtBenchmarkFixture.createJwtGenerator();
+        JwtProvider jwtProvider = new JwtProvider(jwtGenerator);
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry());
+        JwtBenchmarkFixture.setField(verifiedTokenCache, "maximumSize", 0L);
+        verifiedTokenCache.init();
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(createDatabaseFreeRepository());
+        JwtBenchmarkFixture.setField(tokenRevocationService, "refreshTokenExpirationTime",
+                JwtBenchmarkFixture.REFRESH_TOKEN_EXPIRATION_TIME);
+        JwtBenchmarkFixture.setField(tokenRevocationService, "expectedInsertions", 100_000);
+        JwtBenchmarkFixture.setField(tokenRevocationService, "falsePositiveProbability", 0.001);
+        tokenRevocationService.init();
+
+        this.tokenService = new TokenService(
+                jwtProvider, new JwtValidator(jwtGenerator, verifiedTokenCache), tokenRevocationService);
+    }
+
+    @Benchmark
+    public ReissueResponse reissue(RefreshTokenHolder holder) {
+        ReissueResponse response = tokenService.reissueToken(holder.refreshToken);
+        holder.refreshToken = JwtConstants.BEARER + response.tokenResponse().refreshToken();
+        return response;
+    }
+
+    @State(Scope.Thread)
+    public static class RefreshTokenHolder {
+
+        private String refreshToken;
+
+        @Setup
+        public void setUp(TokenReissueBenchmark benchmark) {
+            this.refreshToken = JwtConstants.BEARER + benchmark.tokenService.issueToken("1").refreshToken();
+        }
+    }
+
+    private static RevokedTokenRepository createDatabaseFreeRepository() {
+        Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+        return (RevokedTokenRepository) Proxy.newProxyInstance(
+                RevokedTokenRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedTokenRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByIdGreaterThanAndExpiresAtAfter" -> List.of();
+                    case "existsByTokenId" -> revokedTokenIds.contains((String) args[0]);
+                    case "save" -> {
+                        revokedTokenIds.add(((RevokedToken) args[0]).getTokenId());
+                        yield args[0];
+                    }
+                    default -> throw new IllegalStateException("Unexpected repository call : " + method.getName());
+                });
+    }
+}
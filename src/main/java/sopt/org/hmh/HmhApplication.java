@@ -1,5 +1,6 @@
 package sopt.org.hmh;
 
+import java.util.Map;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -8,7 +9,13 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @EnableFeignClients
 public class HmhApplication {
 
+    // 스키마는 Flyway가 관리하므로 Hibernate는 검증만 합니다. application.yml에 값을 지정하면 그 값이 우선합니다.
+    private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+            "spring.jpa.hibernate.ddl-auto", "validate");
+
     public static void main(String[] args) {
-        SpringApplication.run(HmhApplication.class, args);
+        SpringApplication application = new SpringApplication(HmhApplication.class);
+        application.setDefaultProperties(DEFAULT_PROPERTIES);
+        application.run(args);
     }
-}
\ No newline at end of file
+}
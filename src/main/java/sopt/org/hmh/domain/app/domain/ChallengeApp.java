@@ -6,9 +6,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
+import sopt.org.hmh.global.config.HibernateCacheConfig;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.CHALLENGE_APP_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChallengeApp extends App {
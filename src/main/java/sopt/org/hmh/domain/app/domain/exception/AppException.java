@@ -7,4 +7,8 @@ public class AppException extends ExceptionBase {
     public AppException(AppError error) {
         super(error);
     }
+
+    public AppException(AppError error, Object data) {
+        super(error, data);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package sopt.org.hmh.domain.app.dto.response;
+
+public record DuplicatedAppResponse(
+        String appCode,
+        String os
+) {
+}
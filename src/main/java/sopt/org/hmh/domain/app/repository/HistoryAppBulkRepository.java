@@ -0,0 +1,13 @@
+package sopt.org.hmh.domain.app.repository;
+
+import java.util.List;
+import sopt.org.hmh.domain.app.domain.HistoryApp;
+
+public interface HistoryAppBulkRepository {
+
+    /**
+     * JDBC 배치로 한 번에 저장합니다.
+     * Hibernate를 거치지 않으므로 전달한 엔티티는 저장 후에도 영속 상태가 아니며 id가 채워지지 않습니다.
+     */
+    void bulkInsert(List<HistoryApp> historyApps);
+}
@@ -0,0 +1,30 @@
+package sopt.org.hmh.domain.app.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sopt.org.hmh.domain.app.domain.HistoryApp;
+
+@RequiredArgsConstructor
+public class HistoryAppBulkRepositoryImpl implements HistoryAppBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<HistoryApp> historyApps) {
+        if (historyApps.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO history_app (daily_challenge_id, os, app_code, goal_time, usage_time) VALUES (?, ?, ?, ?, ?)",
+                historyApps,
+                historyApps.size(),
+                (preparedStatement, historyApp) -> {
+                    preparedStatement.setLong(1, historyApp.getDailyChallenge().getId());
+                    preparedStatement.setString(2, historyApp.getOs());
+                    preparedStatement.setString(3, historyApp.getAppCode());
+                    preparedStatement.setLong(4, historyApp.getGoalTime());
+                    preparedStatement.setLong(5, historyApp.getUsageTime());
+                });
+    }
+}
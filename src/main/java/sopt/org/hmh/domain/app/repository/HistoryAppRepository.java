@@ -3,6 +3,6 @@ package sopt.org.hmh.domain.app.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import sopt.org.hmh.domain.app.domain.HistoryApp;
 
-public interface HistoryAppRepository extends JpaRepository<HistoryApp, Long> {
+public interface HistoryAppRepository extends JpaRepository<HistoryApp, Long>, HistoryAppBulkRepository {
 
 }
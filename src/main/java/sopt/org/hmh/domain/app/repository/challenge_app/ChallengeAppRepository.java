@@ -1,18 +1,21 @@
 package sopt.org.hmh.domain.app.repository.challenge_app;
 
+import java.util.Collection;
 import java.util.List;
 import sopt.org.hmh.domain.app.domain.ChallengeApp;
-import java.util.Optional;
 
 public interface ChallengeAppRepository {
 
+    /**
+     * JDBC 배치로 한 번에 저장합니다.
+     * 전달한 엔티티는 영속 상태가 되지 않고 id도 채워지지 않습니다.
+     * 이미 영속성 컨텍스트에 올라온 Challenge.apps 컬렉션에는 반영되지 않고, 2차 캐시의 컬렉션 영역만 비웁니다.
+     */
     void saveAll(List<ChallengeApp> challengeApps);
 
-    void delete(ChallengeApp appToRemove);
+    long deleteByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os);
 
-    Optional<ChallengeApp> findFirstByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os);
-
-    boolean existsByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os);
+    List<ChallengeApp> findAllByChallengeIdAndAppCodeIn(Long challengeId, Collection<String> appCodes);
 
     List<ChallengeApp> findAllByChallengeId(Long previousChallengeId);
 }
@@ -1,39 +1,89 @@
 package sopt.org.hmh.domain.app.repository.challenge_app;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import sopt.org.hmh.domain.app.domain.ChallengeApp;
+import sopt.org.hmh.domain.app.domain.QChallengeApp;
+import sopt.org.hmh.domain.challenge.domain.Challenge;
 
 @Repository
 @RequiredArgsConstructor
 public class ChallengeAppRepositoryImpl implements ChallengeAppRepository{
 
+    private static final String CHALLENGE_APPS_ROLE = Challenge.class.getName() + ".apps";
+
     private final ChallengeAppJpaRepository challengeAppJpaRepository;
+    private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public void saveAll(List<ChallengeApp> challengeApps) {
-        challengeAppJpaRepository.saveAll(challengeApps);
-    }
-
-    @Override
-    public void delete(ChallengeApp appToRemove) {
-        challengeAppJpaRepository.delete(appToRemove);
+        if (challengeApps.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO challenge_app (challenge_id, os, app_code, goal_time) VALUES (?, ?, ?, ?)",
+                challengeApps,
+                challengeApps.size(),
+                (preparedStatement, challengeApp) -> {
+                    preparedStatement.setLong(1, challengeApp.getChallenge().getId());
+                    preparedStatement.setString(2, challengeApp.getOs());
+                    preparedStatement.setString(3, challengeApp.getAppCode());
+                    preparedStatement.setLong(4, challengeApp.getGoalTime());
+                });
+        this.evictChallengeAppsCache(challengeApps);
     }
 
+    // HQL 벌크 삭제는 Hibernate가 ChallengeApp 엔티티와 Challenge.apps 컬렉션 캐시 영역을 함께 비웁니다.
     @Override
-    public Optional<ChallengeApp> findFirstByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os) {
-        return challengeAppJpaRepository.findFirstByChallengeIdAndAppCodeAndOs(challengeId, appCode, os);
+    public long deleteByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os) {
+        QChallengeApp challengeApp = QChallengeApp.challengeApp;
+        return queryFactory.delete(challengeApp)
+                .where(challengeApp.challenge.id.eq(challengeId)
+                        .and(challengeApp.appCode.eq(appCode))
+                        .and(challengeApp.os.eq(os)))
+                .execute();
     }
 
     @Override
-    public boolean existsByChallengeIdAndAppCodeAndOs(Long challengeId, String appCode, String os) {
-        return challengeAppJpaRepository.existsByChallengeIdAndAppCodeAndOs(challengeId, appCode, os);
+    public List<ChallengeApp> findAllByChallengeIdAndAppCodeIn(Long challengeId, Collection<String> appCodes) {
+        return challengeAppJpaRepository.findAllByChallengeIdAndAppCodeIn(challengeId, appCodes);
     }
 
     @Override
     public List<ChallengeApp> findAllByChallengeId(Long previousChallengeId) {
         return challengeAppJpaRepository.findAllByChallengeId(previousChallengeId);
     }
+
+    // JDBC로 직접 추가한 앱은 Hibernate가 알지 못하므로, 캐시된 Challenge.apps 컬렉션을 직접 비웁니다.
+    // 커밋 전에 다른 요청이 이전 목록을 다시 캐시할 수 있어 커밋 후에도 한 번 더 비웁니다.
+    private void evictChallengeAppsCache(List<ChallengeApp> challengeApps) {
+        Set<Long> challengeIds = challengeApps.stream()
+                .map(challengeApp -> challengeApp.getChallenge().getId())
+                .collect(Collectors.toSet());
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        Runnable eviction = () -> challengeIds.forEach(
+                challengeId -> cache.evictCollectionData(CHALLENGE_APPS_ROLE, challengeId));
+
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
 }
@@ -1,12 +1,15 @@
 package sopt.org.hmh.domain.app.service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import sopt.org.hmh.domain.app.domain.ChallengeApp;
 import sopt.org.hmh.domain.app.domain.exception.AppError;
 import sopt.org.hmh.domain.app.domain.exception.AppException;
 import sopt.org.hmh.domain.app.dto.request.ChallengeAppRequest;
+import sopt.org.hmh.domain.app.dto.response.DuplicatedAppResponse;
 import sopt.org.hmh.domain.app.repository.challenge_app.ChallengeAppRepository;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
 
@@ -17,9 +20,9 @@ public class ChallengeAppService {
     private final ChallengeAppRepository challengeAppRepository;
 
     public void removeApp(Challenge challenge, String appcode, String os) {
-        ChallengeApp appToRemove =
-                this.findFirstByChallengeIdAndAppCodeAndOsOrElseThrow(challenge.getId(), appcode, os);
-        challengeAppRepository.delete(appToRemove);
+        if (challengeAppRepository.deleteByChallengeIdAndAppCodeAndOs(challenge.getId(), appcode, os) == 0) {
+            throw new AppException(AppError.APP_NOT_FOUND);
+        }
     }
 
     public void addAppsByPreviousChallengeApp(String os, Long previousChallengeId, Challenge challenge) {
@@ -37,18 +40,35 @@ public class ChallengeAppService {
     }
 
     private void validateAppsExist(List<ChallengeApp> challengeApps) {
-        challengeApps.forEach(this::validateAppExist);
+        challengeApps.stream()
+                .collect(Collectors.groupingBy(challengeApp -> challengeApp.getChallenge().getId()))
+                .forEach(this::validateAppsExistInChallenge);
     }
 
-    private void validateAppExist(ChallengeApp challengeApp) {
-        if (challengeAppRepository.existsByChallengeIdAndAppCodeAndOs(
-                challengeApp.getChallenge().getId(), challengeApp.getAppCode(), challengeApp.getOs())) {
-            throw new AppException(AppError.APP_EXIST_ALREADY);
+    private void validateAppsExistInChallenge(Long challengeId, List<ChallengeApp> challengeApps) {
+        Set<String> appCodes = challengeApps.stream()
+                .map(ChallengeApp::getAppCode)
+                .collect(Collectors.toSet());
+        Set<AppKey> existingAppKeys = challengeAppRepository.findAllByChallengeIdAndAppCodeIn(challengeId, appCodes)
+                .stream()
+                .map(AppKey::from)
+                .collect(Collectors.toSet());
+
+        List<DuplicatedAppResponse> duplicatedApps = challengeApps.stream()
+                .map(AppKey::from)
+                .filter(existingAppKeys::contains)
+                .distinct()
+                .map(appKey -> new DuplicatedAppResponse(appKey.appCode(), appKey.os()))
+                .toList();
+        if (!duplicatedApps.isEmpty()) {
+            throw new AppException(AppError.APP_EXIST_ALREADY, duplicatedApps);
         }
     }
 
-    private ChallengeApp findFirstByChallengeIdAndAppCodeAndOsOrElseThrow(Long challengeId, String appCode, String os) {
-        return challengeAppRepository.findFirstByChallengeIdAndAppCodeAndOs(challengeId, appCode, os)
-                .orElseThrow(() -> new AppException(AppError.APP_NOT_FOUND));
+    private record AppKey(String appCode, String os) {
+
+        private static AppKey from(ChallengeApp challengeApp) {
+            return new AppKey(challengeApp.getAppCode(), challengeApp.getOs());
+        }
     }
 }
@@ -20,7 +20,7 @@ public class HistoryAppService {
     public void addHistoryApp(
             List<ChallengeApp> currentChallengeApps, List<HistoryAppRequest> apps,
             DailyChallenge dailyChallenge, String os) {
-        historyAppRepository.saveAll(supplementAdditionalInfo(currentChallengeApps, apps, dailyChallenge, os));
+        historyAppRepository.bulkInsert(supplementAdditionalInfo(currentChallengeApps, apps, dailyChallenge, os));
     }
 
     private List<HistoryApp> supplementAdditionalInfo(List<ChallengeApp> currentChallengeApps,
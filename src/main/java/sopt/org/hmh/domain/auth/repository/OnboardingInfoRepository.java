@@ -1,7 +1,15 @@
 package sopt.org.hmh.domain.auth.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sopt.org.hmh.domain.user.domain.OnboardingInfo;
 
 public interface OnboardingInfoRepository extends JpaRepository<OnboardingInfo, Long> {
+
+    @Modifying
+    @Query("DELETE FROM OnboardingInfo o WHERE o.userId IN :userIds")
+    int deleteByUserIdIn(@Param("userIds") List<Long> userIds);
 }
@@ -0,0 +1,27 @@
+package sopt.org.hmh.domain.auth.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sopt.org.hmh.domain.user.domain.OnboardingProblem;
+
+@RequiredArgsConstructor
+public class ProblemBulkRepositoryImpl implements ProblemBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void bulkInsert(List<OnboardingProblem> problems) {
+        if (problems.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO problem (onboarding_info_id, problem) VALUES (?, ?)",
+                problems,
+                problems.size(),
+                (preparedStatement, problem) -> {
+                    preparedStatement.setLong(1, problem.getOnboardingInfoId());
+                    preparedStatement.setString(2, problem.getProblem());
+                });
+    }
+}
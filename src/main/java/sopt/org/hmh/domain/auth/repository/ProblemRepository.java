@@ -1,7 +1,16 @@
 package sopt.org.hmh.domain.auth.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sopt.org.hmh.domain.user.domain.OnboardingProblem;
 
-public interface ProblemRepository extends JpaRepository<OnboardingProblem, Long> {
+public interface ProblemRepository extends JpaRepository<OnboardingProblem, Long>, ProblemBulkRepository {
+
+    @Modifying
+    @Query("DELETE FROM OnboardingProblem p WHERE p.onboardingInfoId IN "
+            + "(SELECT o.id FROM OnboardingInfo o WHERE o.userId IN :userIds)")
+    int deleteByUserIdIn(@Param("userIds") List<Long> userIds);
 }
@@ -0,0 +1,65 @@
+package sopt.org.hmh.domain.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sopt.org.hmh.domain.auth.dto.request.SocialSignUpRequest;
+import sopt.org.hmh.domain.auth.dto.response.LoginResponse;
+import sopt.org.hmh.domain.challenge.dto.request.NewChallengeOrder;
+import sopt.org.hmh.domain.challenge.service.ChallengeFacade;
+import sopt.org.hmh.domain.user.domain.User;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.jwt.service.TokenService;
+import sopt.org.hmh.global.auth.social.SocialPlatform;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+
+/**
+ * 소셜 인증이 끝난 뒤의 DB 작업만 트랜잭션으로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final ChallengeFacade challengeFacade;
+    private final TokenService tokenService;
+    private final UserService userService;
+
+    // 탈퇴 유예 중인 사용자 복구와 닉네임 변경을 저장해야 하므로 읽기 전용으로 두지 않습니다.
+    @Transactional
+    public LoginResponse login(SocialUserInfo socialUserInfo) {
+        User loginUser = userService.getUserBySocialPlatformAndSocialId(
+                socialUserInfo.socialPlatform(), socialUserInfo.socialId());
+
+        return performLogin(loginUser, socialUserInfo);
+    }
+
+    @Transactional
+    public LoginResponse signup(SocialSignUpRequest request, SocialUserInfo socialUserInfo, String os, String timeZone) {
+        User newUser = userService.addUser(socialUserInfo.socialPlatform(), socialUserInfo.socialId(), request.name());
+        Long newUserId = newUser.getId();
+
+        userService.registerOnboardingInfo(request, newUserId);
+
+        challengeFacade.startNewChallenge(NewChallengeOrder.createFirstChallengeOrder(
+                request.challenge().toChallengeRequest(), request.challenge().apps(),
+                newUserId, os, timeZone
+        ));
+
+        return performLogin(newUser, socialUserInfo);
+    }
+
+    private LoginResponse performLogin(User loginUser, SocialUserInfo socialUserInfo) {
+        this.updateAdditionalUserLoginInfo(loginUser, socialUserInfo);
+
+        Long userId = loginUser.getId();
+        return new LoginResponse(userId, tokenService.issueToken(userId.toString()));
+    }
+
+    private void updateAdditionalUserLoginInfo(User loginUser, SocialUserInfo socialUserInfo) {
+        userService.recoverIfIsDeletedUser(loginUser);
+
+        if (socialUserInfo.socialPlatform() == SocialPlatform.KAKAO) {
+            loginUser.updateNickname(socialUserInfo.nickname());
+        }
+    }
+}
@@ -1,15 +1,11 @@
 package sopt.org.hmh.domain.challenge.dto.response;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import lombok.Builder;
 import sopt.org.hmh.domain.app.dto.response.ChallengeAppResponse;
-import sopt.org.hmh.domain.challenge.domain.Challenge;
-import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
 import sopt.org.hmh.domain.dailychallenge.domain.Status;
 
-import java.util.Comparator;
 import java.util.List;
 
 @Builder
@@ -21,24 +17,21 @@ public record ChallengeResponse(
         Long goalTime,
         List<ChallengeAppResponse> apps
 ) {
-    public static ChallengeResponse of(Challenge challenge, String timeZone) {
+    public static ChallengeResponse of(Integer period, LocalDate startDate, Long goalTime,
+                                       List<Status> statuses, List<ChallengeAppResponse> apps, LocalDate today) {
         return ChallengeResponse.builder()
-                .period(challenge.getPeriod())
-                .statuses(challenge.getHistoryDailyChallenges()
-                        .stream()
-                        .map(DailyChallenge::getStatus)
-                        .toList())
-                .todayIndex(calculateTodayIndex(challenge, LocalDate.now(ZoneId.of(timeZone))))
-                .startDate(challenge.getStartDate())
-                .goalTime(challenge.getGoalTime())
-                .apps(challenge.getApps().stream()
-                        .map(app -> new ChallengeAppResponse(app.getAppCode(), app.getGoalTime())).toList())
+                .period(period)
+                .statuses(statuses)
+                .todayIndex(calculateTodayIndex(startDate, period, today))
+                .startDate(startDate)
+                .goalTime(goalTime)
+                .apps(apps)
                 .build();
     }
 
-    private static Integer calculateTodayIndex(Challenge challenge, LocalDate now) {
+    private static Integer calculateTodayIndex(LocalDate startDate, Integer period, LocalDate now) {
         final int COMPLETED_CHALLENGE_INDEX = -1;
-        int daysBetween = (int) ChronoUnit.DAYS.between(challenge.getStartDate(), now);
-        return (daysBetween >= challenge.getPeriod()) ? COMPLETED_CHALLENGE_INDEX : daysBetween;
+        int daysBetween = (int) ChronoUnit.DAYS.between(startDate, now);
+        return (daysBetween >= period) ? COMPLETED_CHALLENGE_INDEX : daysBetween;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,7 @@
 package sopt.org.hmh.domain.challenge.repository;
 
-import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
 
@@ -9,7 +9,9 @@ public interface ChallengeJpaRepository extends JpaRepository<Challenge, Long> {
 
     Optional<Challenge> findById(Long id);
 
-    void deleteByUserIdIn(List<Long> userId);
+    @EntityGraph(attributePaths = "apps")
+    Optional<Challenge> findWithAppsById(Long id);
 
-    void deleteByUserId(Long userId);
+    @EntityGraph(attributePaths = "historyDailyChallenges")
+    Optional<Challenge> findWithHistoryDailyChallengesById(Long id);
 }
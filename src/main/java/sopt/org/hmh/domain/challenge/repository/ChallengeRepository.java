@@ -1,13 +1,28 @@
 package sopt.org.hmh.domain.challenge.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
+import sopt.org.hmh.domain.challenge.dto.response.ChallengeResponse;
+import sopt.org.hmh.domain.challenge.dto.response.DailyChallengeResponse;
 
 public interface ChallengeRepository {
     Optional<Challenge> findById(Long id);
 
-    void deleteByUserIdIn(List<Long> userId);
+    Optional<Challenge> findWithAppsById(Long id);
+
+    Optional<Challenge> findWithHistoryDailyChallengesById(Long id);
+
+    Optional<Challenge> findWithAppsAndHistoryDailyChallengesById(Long id);
+
+    Optional<ChallengeResponse> findChallengeResponseById(Long id, LocalDate today);
+
+    Optional<DailyChallengeResponse> findDailyChallengeResponseByIdAndChallengeDate(Long id, LocalDate challengeDate);
+
+    Optional<Integer> findPeriodById(Long id);
+
+    long deleteByUserIdIn(List<Long> userId);
 
     void deleteByUserId(Long userId);
 
@@ -1,16 +1,30 @@
 package sopt.org.hmh.domain.challenge.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import sopt.org.hmh.domain.app.domain.QChallengeApp;
+import sopt.org.hmh.domain.app.domain.QHistoryApp;
+import sopt.org.hmh.domain.app.dto.response.ChallengeAppResponse;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
+import sopt.org.hmh.domain.challenge.domain.QChallenge;
+import sopt.org.hmh.domain.challenge.dto.response.ChallengeResponse;
+import sopt.org.hmh.domain.challenge.dto.response.DailyChallengeResponse;
+import sopt.org.hmh.domain.dailychallenge.domain.QDailyChallenge;
+import sopt.org.hmh.domain.dailychallenge.domain.Status;
 
 @Repository
 @RequiredArgsConstructor
 public class ChallengeRepositoryImpl implements ChallengeRepository{
 
     private final ChallengeJpaRepository challengeJpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Challenge save(Challenge challenge) {
@@ -23,13 +37,130 @@ public class ChallengeRepositoryImpl implements ChallengeRepository{
     }
 
     @Override
-    public void deleteByUserIdIn(List<Long> userId) {
-        challengeJpaRepository.deleteByUserIdIn(userId);
+    public Optional<Challenge> findWithAppsById(Long id) {
+        return challengeJpaRepository.findWithAppsById(id);
+    }
+
+    @Override
+    public Optional<Challenge> findWithHistoryDailyChallengesById(Long id) {
+        return challengeJpaRepository.findWithHistoryDailyChallengesById(id);
+    }
+
+    @Override
+    public Optional<Challenge> findWithAppsAndHistoryDailyChallengesById(Long id) {
+        // 두 컬렉션을 한 번에 fetch join 하면 카테시안 곱이 생기므로 쿼리를 나누고, 같은 영속성 컨텍스트에서 하나의 엔티티로 합쳐집니다.
+        Optional<Challenge> challenge = challengeJpaRepository.findWithAppsById(id);
+        challenge.ifPresent(found -> challengeJpaRepository.findWithHistoryDailyChallengesById(id));
+        return challenge;
+    }
+
+    @Override
+    public Optional<ChallengeResponse> findChallengeResponseById(Long id, LocalDate today) {
+        QChallenge challenge = QChallenge.challenge;
+        QDailyChallenge dailyChallenge = QDailyChallenge.dailyChallenge;
+
+        Tuple challengeTuple = queryFactory.select(challenge.period, challenge.startDate, challenge.goalTime)
+                .from(challenge)
+                .where(challenge.id.eq(id))
+                .fetchOne();
+        if (challengeTuple == null) {
+            return Optional.empty();
+        }
+
+        List<Status> statuses = queryFactory.select(dailyChallenge.status)
+                .from(dailyChallenge)
+                .where(dailyChallenge.challenge.id.eq(id))
+                .orderBy(dailyChallenge.challengeDate.asc())
+                .fetch();
+
+        return Optional.of(ChallengeResponse.of(
+                challengeTuple.get(challenge.period),
+                challengeTuple.get(challenge.startDate),
+                challengeTuple.get(challenge.goalTime),
+                statuses,
+                this.findAppResponsesByChallengeId(id),
+                today));
+    }
+
+    @Override
+    public Optional<DailyChallengeResponse> findDailyChallengeResponseByIdAndChallengeDate(
+            Long id, LocalDate challengeDate) {
+        QChallenge challenge = QChallenge.challenge;
+        QDailyChallenge dailyChallenge = QDailyChallenge.dailyChallenge;
+
+        Tuple dailyChallengeTuple = queryFactory.select(dailyChallenge.status, challenge.goalTime)
+                .from(dailyChallenge)
+                .join(dailyChallenge.challenge, challenge)
+                .where(challenge.id.eq(id)
+                        .and(dailyChallenge.challengeDate.eq(challengeDate)))
+                .fetchOne();
+        if (dailyChallengeTuple == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(DailyChallengeResponse.builder()
+                .status(dailyChallengeTuple.get(dailyChallenge.status))
+                .goalTime(dailyChallengeTuple.get(challenge.goalTime))
+                .apps(this.findAppResponsesByChallengeId(id))
+                .build());
+    }
+
+    @Override
+    public Optional<Integer> findPeriodById(Long id) {
+        QChallenge challenge = QChallenge.challenge;
+        return Optional.ofNullable(queryFactory.select(challenge.period)
+                .from(challenge)
+                .where(challenge.id.eq(id))
+                .fetchOne());
+    }
+
+    private List<ChallengeAppResponse> findAppResponsesByChallengeId(Long id) {
+        QChallengeApp challengeApp = QChallengeApp.challengeApp;
+        return queryFactory.select(Projections.constructor(ChallengeAppResponse.class,
+                        challengeApp.appCode,
+                        challengeApp.goalTime))
+                .from(challengeApp)
+                .where(challengeApp.challenge.id.eq(id))
+                .fetch();
+    }
+
+    @Override
+    public long deleteByUserIdIn(List<Long> userId) {
+        QChallenge challenge = QChallenge.challenge;
+        QDailyChallenge dailyChallenge = QDailyChallenge.dailyChallenge;
+        QHistoryApp historyApp = QHistoryApp.historyApp;
+        QChallengeApp challengeApp = QChallengeApp.challengeApp;
+
+        List<Long> challengeIds = queryFactory.select(challenge.id)
+                .from(challenge)
+                .where(challenge.userId.in(userId))
+                .fetch();
+        if (challengeIds.isEmpty()) {
+            return 0L;
+        }
+
+        // 엔티티를 로딩하는 cascade 삭제 대신 자식 테이블부터 벌크 삭제합니다.
+        long deletedCount = queryFactory.delete(historyApp)
+                .where(historyApp.dailyChallenge.id.in(
+                        JPAExpressions.select(dailyChallenge.id)
+                                .from(dailyChallenge)
+                                .where(dailyChallenge.challenge.id.in(challengeIds))))
+                .execute();
+        deletedCount += queryFactory.delete(dailyChallenge)
+                .where(dailyChallenge.challenge.id.in(challengeIds))
+                .execute();
+        deletedCount += queryFactory.delete(challengeApp)
+                .where(challengeApp.challenge.id.in(challengeIds))
+                .execute();
+        deletedCount += queryFactory.delete(challenge)
+                .where(challenge.id.in(challengeIds))
+                .execute();
+        return deletedCount;
     }
 
     @Override
     public void deleteByUserId(Long userId) {
-        challengeJpaRepository.deleteByUserId(userId);
+        this.deleteByUserIdIn(List.of(userId));
     }
 
 }
@@ -6,15 +6,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sopt.org.hmh.domain.app.dto.request.ChallengeAppRequest;
-import sopt.org.hmh.domain.app.dto.response.ChallengeAppResponse;
 import sopt.org.hmh.domain.app.service.ChallengeAppService;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
 import sopt.org.hmh.domain.challenge.dto.request.NewChallengeOrder;
 import sopt.org.hmh.domain.challenge.dto.response.ChallengeResponse;
 import sopt.org.hmh.domain.challenge.dto.response.DailyChallengeResponse;
-import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
 import sopt.org.hmh.domain.dailychallenge.service.DailyChallengeService;
-import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.domain.user.service.CurrentUserContext;
 import java.util.List;
 
 @Service
@@ -23,55 +21,47 @@ public class ChallengeFacade {
 
     private final ChallengeService challengeService;
     private final DailyChallengeService dailyChallengeService;
-    private final UserService userService;
+    private final CurrentUserContext currentUserContext;
     private final ChallengeAppService challengeAppService;
 
     @Transactional
     public void startNewChallenge(NewChallengeOrder newChallengeOrder) {
+        // 현재 챌린지를 바꾸기 전에 앱을 복사해 올 이전 챌린지 아이디를 읽어 둡니다.
+        Long previousChallengeId = newChallengeOrder.isFirstChallenge()
+                ? null
+                : currentUserContext.getCurrentChallengeId(newChallengeOrder.getUserId());
+
         Challenge newChallenge = challengeService.addChallenge(newChallengeOrder.toChallengeEntity());
-        userService.changeCurrentChallengeIdByUserId(newChallengeOrder.getUserId(), newChallenge.getId());
+        currentUserContext.changeCurrentChallengeId(newChallengeOrder.getUserId(), newChallenge.getId());
 
         dailyChallengeService.addDailyChallenge(newChallenge);
 
-        this.addAppsByNewChallengeOrder(newChallengeOrder, newChallenge);
+        this.addAppsByNewChallengeOrder(newChallengeOrder, newChallenge, previousChallengeId);
     }
 
-    private void addAppsByNewChallengeOrder(NewChallengeOrder newChallengeOrder, Challenge newChallenge) {
+    private void addAppsByNewChallengeOrder(
+            NewChallengeOrder newChallengeOrder, Challenge newChallenge, Long previousChallengeId) {
         if (newChallengeOrder.isFirstChallenge()) {
             challengeAppService.addApps(newChallengeOrder.toChallengeAppEntities(newChallenge));
             return;
         }
-        Long previousChallengeId = userService.getCurrentChallengeIdByUserId(newChallengeOrder.getUserId());
         challengeAppService.addAppsByPreviousChallengeApp(newChallengeOrder.getOs(), previousChallengeId, newChallenge);
     }
 
     @Transactional(readOnly = true)
     public ChallengeResponse getCurrentChallengeInfo(Long userId, String timeZone) {
-        Challenge currentChallenge = this.findCurrentChallengeByUserId(userId);
-        return ChallengeResponse.of(currentChallenge, timeZone);
+        return challengeService.getChallengeResponse(
+                currentUserContext.getCurrentChallengeId(userId), LocalDate.now(ZoneId.of(timeZone)));
     }
 
     @Transactional(readOnly = true)
     public DailyChallengeResponse getDailyChallengeInfo(Long userId, String timeZone) {
-        Challenge challenge = this.findCurrentChallengeByUserId(userId);
-        LocalDate localDateNow = LocalDate.now(ZoneId.of(timeZone));
-        DailyChallenge todayChallenge =
-                dailyChallengeService.findDailyChallengeByChallengeAndChallengeDate(challenge, localDateNow);
-
-        return DailyChallengeResponse.builder()
-                .status(todayChallenge.getStatus())
-                .goalTime(challenge.getGoalTime())
-                .apps(challenge.getApps().stream()
-                        .map(challengeApp -> new ChallengeAppResponse(
-                                challengeApp.getAppCode(),
-                                challengeApp.getGoalTime()
-                        )).toList())
-                .build();
+        return challengeService.getDailyChallengeResponse(
+                currentUserContext.getCurrentChallengeId(userId), LocalDate.now(ZoneId.of(timeZone)));
     }
 
     public Challenge findCurrentChallengeByUserId(Long userId) {
-        Long currentChallengeId = userService.getCurrentChallengeIdByUserId(userId);
-        return challengeService.findByIdOrElseThrow(currentChallengeId);
+        return challengeService.findByIdOrElseThrow(currentUserContext.getCurrentChallengeId(userId));
     }
 
     @Transactional
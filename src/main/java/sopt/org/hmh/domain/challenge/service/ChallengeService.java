@@ -1,5 +1,6 @@
 package sopt.org.hmh.domain.challenge.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -7,7 +8,11 @@ import sopt.org.hmh.domain.app.domain.ChallengeApp;
 import sopt.org.hmh.domain.challenge.domain.Challenge;
 import sopt.org.hmh.domain.challenge.domain.exception.ChallengeError;
 import sopt.org.hmh.domain.challenge.domain.exception.ChallengeException;
+import sopt.org.hmh.domain.challenge.dto.response.ChallengeResponse;
+import sopt.org.hmh.domain.challenge.dto.response.DailyChallengeResponse;
 import sopt.org.hmh.domain.challenge.repository.ChallengeRepository;
+import sopt.org.hmh.domain.dailychallenge.domain.exception.DailyChallengeError;
+import sopt.org.hmh.domain.dailychallenge.domain.exception.DailyChallengeException;
 
 @Service
 @RequiredArgsConstructor
@@ -15,8 +20,8 @@ public class ChallengeService {
 
     private final ChallengeRepository challengeRepository;
 
-    public void deleteChallengeRelatedByUserIds(List<Long> expiredUserIdList) {
-        challengeRepository.deleteByUserIdIn(expiredUserIdList);
+    public long deleteChallengeRelatedByUserIds(List<Long> expiredUserIdList) {
+        return challengeRepository.deleteByUserIdIn(expiredUserIdList);
     }
 
     public void deleteChallengeRelatedByUserId(Long userId) {
@@ -28,8 +33,23 @@ public class ChallengeService {
                 () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
     }
 
+    public Challenge findByIdWithAppsOrElseThrow(Long challengeId) {
+        return challengeRepository.findWithAppsById(challengeId).orElseThrow(
+                () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
+    }
+
+    public Challenge findByIdWithHistoryDailyChallengesOrElseThrow(Long challengeId) {
+        return challengeRepository.findWithHistoryDailyChallengesById(challengeId).orElseThrow(
+                () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
+    }
+
+    public Challenge findByIdWithAppsAndHistoryDailyChallengesOrElseThrow(Long challengeId) {
+        return challengeRepository.findWithAppsAndHistoryDailyChallengesById(challengeId).orElseThrow(
+                () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
+    }
+
     public List<ChallengeApp> getCurrentChallengeAppByChallengeId(Long challengeId) {
-        return this.findByIdOrElseThrow(challengeId).getApps();
+        return this.findByIdWithAppsOrElseThrow(challengeId).getApps();
     }
 
     public Challenge addChallenge(Challenge challenge) {
@@ -37,6 +57,17 @@ public class ChallengeService {
     }
 
     public Integer getChallengePeriod(Long challengeId) {
-        return this.findByIdOrElseThrow(challengeId).getPeriod();
+        return challengeRepository.findPeriodById(challengeId).orElseThrow(
+                () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
+    }
+
+    public ChallengeResponse getChallengeResponse(Long challengeId, LocalDate today) {
+        return challengeRepository.findChallengeResponseById(challengeId, today).orElseThrow(
+                () -> new ChallengeException(ChallengeError.CHALLENGE_NOT_FOUND));
+    }
+
+    public DailyChallengeResponse getDailyChallengeResponse(Long challengeId, LocalDate challengeDate) {
+        return challengeRepository.findDailyChallengeResponseByIdAndChallengeDate(challengeId, challengeDate)
+                .orElseThrow(() -> new DailyChallengeException(DailyChallengeError.DAILY_CHALLENGE_NOT_FOUND));
     }
 }
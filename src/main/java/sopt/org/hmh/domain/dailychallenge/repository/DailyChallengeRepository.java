@@ -4,14 +4,21 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
+import sopt.org.hmh.domain.point.dto.response.ChallengePointStatusResponse;
 
 public interface DailyChallengeRepository {
 
+    /**
+     * JDBC 배치로 한 번에 저장합니다.
+     * 전달한 엔티티는 영속 상태가 되지 않고 id도 채워지지 않으므로, 저장한 데일리 챌린지가 필요하면 다시 조회해야 합니다.
+     */
     void saveAll(List<DailyChallenge> dailyChallengeByChallengePeriod);
 
     Optional<DailyChallenge> findByChallengeDateAndUserId(LocalDate challengeDate, Long userId);
 
     List<DailyChallenge> findAllByChallengeId(Long challengeId);
 
+    List<ChallengePointStatusResponse> findPointStatusesByChallengeId(Long challengeId);
+
     boolean existsByUserIdAndChallengeDateIn(Long userId, List<LocalDate> localDates);
 }
\ No newline at end of file
@@ -1,13 +1,19 @@
 package sopt.org.hmh.domain.dailychallenge.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
 import sopt.org.hmh.domain.dailychallenge.domain.QDailyChallenge;
+import sopt.org.hmh.domain.point.dto.response.ChallengePointStatusResponse;
 
 @Repository
 @RequiredArgsConstructor
@@ -15,10 +21,29 @@ public class DailyChallengeRepositoryImpl implements DailyChallengeRepository {
 
     private final DailyChallengeJpaRepository dailyChallengeJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void saveAll(List<DailyChallenge> dailyChallengeByChallengePeriod) {
-        dailyChallengeJpaRepository.saveAll(dailyChallengeByChallengePeriod);
+        if (dailyChallengeByChallengePeriod.isEmpty()) {
+            return;
+        }
+        // IDENTITY 전략에서는 Hibernate가 배치 INSERT를 하지 않으므로 JDBC 배치로 한 번에 저장합니다.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO daily_challenge (challenge_id, user_id, status, goal_time, challenge_date, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                dailyChallengeByChallengePeriod,
+                dailyChallengeByChallengePeriod.size(),
+                (preparedStatement, dailyChallenge) -> {
+                    preparedStatement.setLong(1, dailyChallenge.getChallenge().getId());
+                    preparedStatement.setLong(2, dailyChallenge.getUserId());
+                    preparedStatement.setString(3, dailyChallenge.getStatus().name());
+                    preparedStatement.setLong(4, dailyChallenge.getGoalTime());
+                    preparedStatement.setDate(5, Date.valueOf(dailyChallenge.getChallengeDate()));
+                    preparedStatement.setTimestamp(6, now);
+                    preparedStatement.setTimestamp(7, now);
+                });
     }
 
     @Override
@@ -31,6 +56,18 @@ public class DailyChallengeRepositoryImpl implements DailyChallengeRepository {
         return dailyChallengeJpaRepository.findAllByChallengeId(challengeId);
     }
 
+    @Override
+    public List<ChallengePointStatusResponse> findPointStatusesByChallengeId(Long challengeId) {
+        QDailyChallenge dailyChallenge = QDailyChallenge.dailyChallenge;
+        return queryFactory.select(Projections.constructor(ChallengePointStatusResponse.class,
+                        dailyChallenge.challengeDate,
+                        dailyChallenge.status))
+                .from(dailyChallenge)
+                .where(dailyChallenge.challenge.id.eq(challengeId))
+                .orderBy(dailyChallenge.challengeDate.asc())
+                .fetch();
+    }
+
     @Override
     public boolean existsByUserIdAndChallengeDateIn(Long userId, List<LocalDate> localDates) {
         QDailyChallenge dailyChallenge = QDailyChallenge.dailyChallenge;
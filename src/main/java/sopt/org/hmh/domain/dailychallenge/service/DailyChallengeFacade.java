@@ -11,7 +11,7 @@ import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
 import sopt.org.hmh.domain.dailychallenge.domain.Status;
 import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeListRequest;
 import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeStatusListRequest;
-import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.domain.user.service.CurrentUserContext;
 
 @Service
 @RequiredArgsConstructor
@@ -20,11 +20,12 @@ public class DailyChallengeFacade {
     private final DailyChallengeService dailyChallengeService;
     private final HistoryAppService historyAppService;
     private final ChallengeService challengeService;
-    private final UserService userService;
+    private final CurrentUserContext currentUserContext;
 
     @Transactional
     public List<Status> addFinishedDailyChallengeHistory(Long userId, FinishedDailyChallengeListRequest request, String os) {
-        Challenge challenge = challengeService.findByIdOrElseThrow(userService.getCurrentChallengeIdByUserId(userId));
+        Challenge challenge = challengeService.findByIdWithAppsAndHistoryDailyChallengesOrElseThrow(
+                currentUserContext.getCurrentChallengeId(userId));
 
         request.finishedDailyChallenges().forEach(challengeRequest -> {
             DailyChallenge dailyChallenge = dailyChallengeService
@@ -38,7 +39,8 @@ public class DailyChallengeFacade {
 
     @Transactional
     public List<Status> changeDailyChallengeStatusByIsSuccess(Long userId, FinishedDailyChallengeStatusListRequest request) {
-        Challenge challenge = challengeService.findByIdOrElseThrow(userService.getCurrentChallengeIdByUserId(userId));
+        Challenge challenge = challengeService.findByIdWithHistoryDailyChallengesOrElseThrow(
+                currentUserContext.getCurrentChallengeId(userId));
 
         request.finishedDailyChallenges().forEach(challengeRequest -> {
             DailyChallenge dailyChallenge = dailyChallengeService
@@ -2,7 +2,6 @@ package sopt.org.hmh.domain.dailychallenge.service;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,6 +11,7 @@ import sopt.org.hmh.domain.dailychallenge.domain.Status;
 import sopt.org.hmh.domain.dailychallenge.domain.exception.DailyChallengeError;
 import sopt.org.hmh.domain.dailychallenge.domain.exception.DailyChallengeException;
 import sopt.org.hmh.domain.dailychallenge.repository.DailyChallengeRepository;
+import sopt.org.hmh.domain.point.dto.response.ChallengePointStatusResponse;
 
 @Service
 @RequiredArgsConstructor
@@ -25,16 +25,18 @@ public class DailyChallengeService {
     }
 
     public DailyChallenge findDailyChallengeByChallengePeriodIndex(Challenge challenge, Integer challengePeriodIndex) {
-        return Optional.ofNullable(
-                challenge.getHistoryDailyChallenges().get(challengePeriodIndex)
-        ).orElseThrow(() -> new DailyChallengeException(DailyChallengeError.DAILY_CHALLENGE_PERIOD_INDEX_NOT_FOUND));
+        if (challengePeriodIndex < 0 || challengePeriodIndex >= challenge.getPeriod()) {
+            throw new DailyChallengeException(DailyChallengeError.DAILY_CHALLENGE_PERIOD_INDEX_NOT_FOUND);
+        }
+        List<DailyChallenge> historyDailyChallenges = challenge.getHistoryDailyChallenges();
+        if (challengePeriodIndex >= historyDailyChallenges.size()) {
+            throw new DailyChallengeException(DailyChallengeError.DAILY_CHALLENGE_PERIOD_INDEX_NOT_FOUND);
+        }
+        return historyDailyChallenges.get(challengePeriodIndex);
     }
 
-    public DailyChallenge findDailyChallengeByChallengeAndChallengeDate(Challenge challenge, LocalDate challengeDate) {
-        return challenge.getHistoryDailyChallenges().stream()
-                .filter(dailyChallenge -> dailyChallenge.getChallengeDate().equals(challengeDate))
-                .findFirst()
-                .orElseThrow(() -> new DailyChallengeException(DailyChallengeError.DAILY_CHALLENGE_NOT_FOUND));
+    public List<ChallengePointStatusResponse> getPointStatusesByChallengeId(Long challengeId) {
+        return dailyChallengeRepository.findPointStatusesByChallengeId(challengeId);
     }
 
     public void validateDailyChallengeStatus(Status dailyChallengeStatus, List<Status> expectedStatuses) {
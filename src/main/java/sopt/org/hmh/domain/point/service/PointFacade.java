@@ -15,6 +15,7 @@ import sopt.org.hmh.domain.dailychallenge.domain.DailyChallenge;
 import sopt.org.hmh.domain.dailychallenge.domain.Status;
 import sopt.org.hmh.domain.dailychallenge.service.DailyChallengeService;
 import sopt.org.hmh.domain.user.domain.User;
+import sopt.org.hmh.domain.user.service.CurrentUserContext;
 import sopt.org.hmh.domain.user.service.UserService;
 
 @Service
@@ -24,20 +25,20 @@ public class PointFacade {
     private final UserService userService;
     private final DailyChallengeService dailyChallengeService;
     private final ChallengeService challengeService;
+    private final CurrentUserContext currentUserContext;
 
     @Transactional
     @Deprecated
     public UsePointResponse usePointAndChallengeFailedDeprecated(Long userId, LocalDate challengeDate) {
         DailyChallenge dailyChallenge =
                 dailyChallengeService.findDailyChallengeByChallengeDateAndUserIdOrElseThrow(challengeDate, userId);
-        User user = userService.findByIdOrThrowException(userId);
 
         dailyChallengeService.validateDailyChallengeStatus(dailyChallenge.getStatus(), List.of(Status.NONE));
         dailyChallenge.changeStatus(Status.FAILURE);
 
         return new UsePointResponse(
                 ChallengeConstants.USAGE_POINT,
-                user.decreasePoint(ChallengeConstants.USAGE_POINT)
+                userService.decreasePoint(userId, ChallengeConstants.USAGE_POINT)
         );
     }
 
@@ -46,14 +47,13 @@ public class PointFacade {
         LocalDate challengeDate = LocalDate.now(ZoneId.of(timeZone));
         DailyChallenge dailyChallenge =
                 dailyChallengeService.findDailyChallengeByChallengeDateAndUserIdOrElseThrow(challengeDate, userId);
-        User user = userService.findByIdOrThrowException(userId);
 
         dailyChallengeService.validateDailyChallengeStatus(dailyChallenge.getStatus(), List.of(Status.NONE));
         dailyChallenge.changeStatus(Status.FAILURE);
 
         return new UsePointResponse(
                 ChallengeConstants.USAGE_POINT,
-                user.decreasePoint(ChallengeConstants.USAGE_POINT)
+                userService.decreasePoint(userId, ChallengeConstants.USAGE_POINT)
         );
     }
 
@@ -61,28 +61,22 @@ public class PointFacade {
     public EarnPointResponse earnPointAndChallengeEarned(Long userId, LocalDate challengeDate) {
         DailyChallenge dailyChallenge =
                 dailyChallengeService.findDailyChallengeByChallengeDateAndUserIdOrElseThrow(challengeDate, userId);
-        User user = userService.findByIdOrThrowException(userId);
 
         dailyChallengeService.validateDailyChallengeStatus(dailyChallenge.getStatus(), List.of(Status.UNEARNED));
         dailyChallenge.changeStatus(Status.EARNED);
 
-        return new EarnPointResponse(user.increasePoint(ChallengeConstants.EARNED_POINT));
+        return new EarnPointResponse(userService.increasePoint(userId, ChallengeConstants.EARNED_POINT));
     }
 
     @Transactional(readOnly = true)
     public ChallengePointStatusListResponse getChallengePointStatusList(Long userId) {
-        User user = userService.findByIdOrThrowException(userId);
-        Challenge challenge = challengeService.findByIdOrElseThrow(user.getCurrentChallengeId());
-        List<ChallengePointStatusResponse> challengePointStatusResponseList =
-                challenge.getHistoryDailyChallenges().stream()
-                .map(dailyChallenge -> new ChallengePointStatusResponse(
-                        dailyChallenge.getChallengeDate(),
-                        dailyChallenge.getStatus())).toList();
+        User user = currentUserContext.getUser(userId);
+        Challenge challenge = challengeService.findByIdOrElseThrow(currentUserContext.getCurrentChallengeId(userId));
 
         return new ChallengePointStatusListResponse(
                 user.getPoint(),
                 challenge.getPeriod(),
-                challengePointStatusResponseList
+                dailyChallengeService.getPointStatusesByChallengeId(challenge.getId())
         );
     }
 }
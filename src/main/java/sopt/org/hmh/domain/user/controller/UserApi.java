@@ -15,7 +15,7 @@ import sopt.org.hmh.global.common.response.EmptyJsonResponse;
 public interface UserApi {
 
     @Operation(summary = "로그아웃")
-    ResponseEntity<BaseResponse<EmptyJsonResponse>> orderLogout();
+    ResponseEntity<BaseResponse<EmptyJsonResponse>> orderLogout(@Parameter(hidden = true) final String accessToken);
 
     @Operation(summary = "유저 정보 불러오기")
     ResponseEntity<BaseResponse<UserInfoResponse>> orderGetUserInfo(@Parameter(hidden = true) final Long userId);
@@ -24,7 +24,9 @@ public interface UserApi {
     ResponseEntity<BaseResponse<Integer>> orderGetUserPoint(@Parameter(hidden = true) final Long userId);
 
     @Operation(summary = "회원 탈퇴")
-    ResponseEntity<BaseResponse<EmptyJsonResponse>> orderWithdraw(@Parameter(hidden = true) final Long userId);
+    ResponseEntity<BaseResponse<EmptyJsonResponse>> orderWithdraw(
+            @Parameter(hidden = true) final Long userId,
+            @Parameter(hidden = true) final String accessToken);
 
     @Operation(summary = "당일 잠금 여부 전송")
     ResponseEntity<BaseResponse<EmptyJsonResponse>> orderChangeRecentLockDate(
@@ -19,6 +19,8 @@ import sopt.org.hmh.domain.user.dto.response.UserResponse.IsLockTodayResponse;
 import sopt.org.hmh.domain.user.dto.response.UserResponse.UserInfoResponse;
 import sopt.org.hmh.domain.user.service.UserService;
 import sopt.org.hmh.global.auth.UserId;
+import sopt.org.hmh.global.auth.jwt.JwtConstants;
+import sopt.org.hmh.global.auth.jwt.service.TokenService;
 import sopt.org.hmh.global.common.constant.CustomHeaderType;
 import sopt.org.hmh.global.common.response.BaseResponse;
 import sopt.org.hmh.global.common.response.EmptyJsonResponse;
@@ -29,10 +31,13 @@ import sopt.org.hmh.global.common.response.EmptyJsonResponse;
 public class UserController implements UserApi {
 
     private final UserService userService;
+    private final TokenService tokenService;
 
     @PostMapping("/v1/user/logout")
     @Override
-    public ResponseEntity<BaseResponse<EmptyJsonResponse>> orderLogout() {
+    public ResponseEntity<BaseResponse<EmptyJsonResponse>> orderLogout(
+            @RequestHeader(JwtConstants.AUTHORIZATION) final String accessToken) {
+        tokenService.revokeToken(accessToken);
         return ResponseEntity
                 .status(UserSuccess.LOGOUT_SUCCESS.getHttpStatus())
                 .body(BaseResponse.success(UserSuccess.LOGOUT_SUCCESS, new EmptyJsonResponse()));
@@ -52,12 +57,15 @@ public class UserController implements UserApi {
         return ResponseEntity
                 .status(UserSuccess.GET_USER_POINT_SUCCESS.getHttpStatus())
                 .body(BaseResponse.success(UserSuccess.GET_USER_POINT_SUCCESS,
-                        userService.getUserInfo(userId).point()));
+                        userService.getPointByUserId(userId)));
     }
 
     @DeleteMapping("/v1/user")
-    public ResponseEntity<BaseResponse<EmptyJsonResponse>> orderWithdraw(@UserId final Long userId) {
+    public ResponseEntity<BaseResponse<EmptyJsonResponse>> orderWithdraw(
+            @UserId final Long userId,
+            @RequestHeader(JwtConstants.AUTHORIZATION) final String accessToken) {
         userService.withdraw(userId);
+        tokenService.revokeToken(accessToken);
         return ResponseEntity
                 .status(UserSuccess.WITHDRAW_SUCCESS.getHttpStatus())
                 .body(BaseResponse.success(UserSuccess.WITHDRAW_SUCCESS, new EmptyJsonResponse()));
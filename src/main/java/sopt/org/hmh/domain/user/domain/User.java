@@ -18,8 +18,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import sopt.org.hmh.domain.user.domain.exception.UserError;
-import sopt.org.hmh.domain.user.domain.exception.UserException;
 import sopt.org.hmh.global.auth.social.SocialPlatform;
 import sopt.org.hmh.global.common.domain.BaseTimeEntity;
 
@@ -76,19 +74,6 @@ public class User extends BaseTimeEntity {
         this.deletedAt = null;
     }
 
-    public Integer decreasePoint(Integer usagePoint) {
-        if (this.point < usagePoint) {
-            throw new UserException(UserError.NOT_ENOUGH_POINTS);
-        }
-        this.point -= usagePoint;
-        return this.point;
-    }
-
-    public Integer increasePoint(Integer earnedPoint) {
-        this.point += earnedPoint;
-        return this.point;
-    }
-
     public void changePoint(Integer point) {
         this.point = point;
     }
@@ -1,9 +1,12 @@
 package sopt.org.hmh.domain.user.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sopt.org.hmh.domain.user.domain.User;
@@ -17,6 +20,28 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsBySocialPlatformAndSocialId(SocialPlatform socialPlatform, String socialId);
 
-    @Query("SELECT u.id FROM User u WHERE u.deletedAt < :now AND u.isDeleted = true")
-    List<Long> findIdByDeletedAtBeforeAndIsDeletedIsTrue(@Param("now") LocalDateTime now);
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt < :now AND u.isDeleted = true AND u.id > :afterId ORDER BY u.id")
+    List<Long> findExpiredUserIdsAfter(
+            @Param("now") LocalDateTime now, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT u.point FROM User u WHERE u.id = :id")
+    Optional<Integer> findPointById(@Param("id") Long id);
+
+    @Query("SELECT u.currentChallengeId FROM User u WHERE u.id = :id")
+    Optional<Long> findCurrentChallengeIdById(@Param("id") Long id);
+
+    @Query("SELECT u.recentLockDate FROM User u WHERE u.id = :id")
+    Optional<LocalDate> findRecentLockDateById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point = u.point + :amount WHERE u.id = :id")
+    int increasePoint(@Param("id") Long id, @Param("amount") Integer amount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.point = u.point - :amount WHERE u.id = :id AND u.point >= :amount")
+    int decreasePointIfEnough(@Param("id") Long id, @Param("amount") Integer amount);
+
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package sopt.org.hmh.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import sopt.org.hmh.domain.user.domain.User;
+import sopt.org.hmh.domain.user.domain.exception.UserError;
+import sopt.org.hmh.domain.user.domain.exception.UserException;
+import sopt.org.hmh.domain.user.repository.UserRepository;
+
+/**
+ * 한 요청 안에서 유저와 현재 챌린지 아이디를 처음 필요할 때 읽고, 이후에는 읽어 둔 값을 돌려줍니다.
+ * 현재 챌린지 아이디만 필요한 경우에는 엔티티를 읽지 않고 컬럼 하나만 조회해 기억해 둡니다.
+ * 챌린지 엔티티는 2차 캐시를 거치도록 아이디로 ChallengeService에서 조회합니다.
+ * 요청 스코프 빈이므로 요청을 처리하는 파사드에서만 사용하고, 스케줄러·비동기 작업에서는 UserService를 사용합니다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+
+    private Long userId;
+    private Long currentChallengeId;
+    private User user;
+
+    public User getUser(Long userId) {
+        // 다른 영속성 컨텍스트에서 읽은 엔티티는 변경이 반영되지 않으므로 다시 읽습니다.
+        if (userId.equals(this.userId) && user != null && entityManager.contains(user)) {
+            return user;
+        }
+        User loadedUser = userRepository.findById(userId).orElseThrow(
+                () -> new UserException(UserError.NOT_FOUND_USER));
+        this.userId = userId;
+        this.user = loadedUser;
+        this.currentChallengeId = loadedUser.getCurrentChallengeId();
+        return user;
+    }
+
+    public Long getCurrentChallengeId(Long userId) {
+        if (!userId.equals(this.userId) || currentChallengeId == null) {
+            this.resolveCurrentChallengeId(userId);
+        }
+        return currentChallengeId;
+    }
+
+    public void changeCurrentChallengeId(Long userId, Long challengeId) {
+        this.getUser(userId).changeCurrentChallengeId(challengeId);
+        this.currentChallengeId = challengeId;
+    }
+
+    private void resolveCurrentChallengeId(Long userId) {
+        if (userId.equals(this.userId) && user != null) {
+            this.getUser(userId);
+        } else {
+            this.reset(userId);
+            this.currentChallengeId = userRepository.findCurrentChallengeIdById(userId).orElse(null);
+        }
+
+        if (Objects.isNull(currentChallengeId)) {
+            // 컬럼 값이 null인 경우와 유저가 없는 경우를 구분합니다.
+            if (user == null && !userRepository.existsById(userId)) {
+                throw new UserException(UserError.NOT_FOUND_USER);
+            }
+            throw new UserException(UserError.NOT_FOUND_CURRENT_CHALLENGE_ID);
+        }
+    }
+
+    private void reset(Long userId) {
+        this.userId = userId;
+        this.user = null;
+        this.currentChallengeId = null;
+    }
+}
@@ -0,0 +1,36 @@
+package sopt.org.hmh.domain.user.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import sopt.org.hmh.domain.challenge.service.ChallengeService;
+import sopt.org.hmh.domain.user.repository.UserRepository;
+import sopt.org.hmh.global.batch.service.ChunkedJob;
+
+@Component
+@RequiredArgsConstructor
+public class ExpiredUserPurgeJob implements ChunkedJob {
+
+    private static final String JOB_NAME = "expired-user-purge";
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final ChallengeService challengeService;
+
+    @Override
+    public String getName() {
+        return JOB_NAME;
+    }
+
+    @Override
+    public List<Long> readChunk(Long afterId, int chunkSize) {
+        return userRepository.findExpiredUserIdsAfter(LocalDateTime.now(), afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Override
+    public long processChunk(List<Long> ids) {
+        return challengeService.deleteChallengeRelatedByUserIds(ids) + userService.deleteUsersByIds(ids);
+    }
+}
@@ -2,7 +2,7 @@ package sopt.org.hmh.domain.user.service;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.Optional;
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -77,7 +77,7 @@ public class UserService {
 
     public void registerOnboardingInfo(SocialSignUpRequest request, Long userId) {
         Long onboardingInfoId = onboardingInfoRepository.save(request.toOnboardingInfo(userId)).getId();
-        problemRepository.saveAll(request.toProblemList(onboardingInfoId));
+        problemRepository.bulkInsert(request.toProblemList(onboardingInfoId));
     }
 
     private User findBySocialPlatformAndSocialIdOrThrowException(SocialPlatform socialPlatform, String socialId) {
@@ -100,13 +100,33 @@ public class UserService {
         }
     }
 
-    public Long getCurrentChallengeIdByUserId(Long userId) {
-        return Optional.ofNullable(this.findByIdOrThrowException(userId).getCurrentChallengeId())
-                .orElseThrow(() -> new UserException(UserError.NOT_FOUND_CURRENT_CHALLENGE_ID));
+    public Integer increasePoint(Long userId, Integer earnedPoint) {
+        if (userRepository.increasePoint(userId, earnedPoint) == 0) {
+            throw new UserException(UserError.NOT_FOUND_USER);
+        }
+        return this.getPointByUserId(userId);
+    }
+
+    public Integer decreasePoint(Long userId, Integer usagePoint) {
+        if (userRepository.decreasePointIfEnough(userId, usagePoint) == 0) {
+            this.checkIsExistUserId(userId);
+            throw new UserException(UserError.NOT_ENOUGH_POINTS);
+        }
+        return this.getPointByUserId(userId);
     }
 
-    public void changeCurrentChallengeIdByUserId(Long userId, Long challengeId) {
-        this.findByIdOrThrowException(userId).changeCurrentChallengeId(challengeId);
+    @Transactional(readOnly = true)
+    public Integer getPointByUserId(Long userId) {
+        return userRepository.findPointById(userId).orElseThrow(
+                () -> new UserException(UserError.NOT_FOUND_USER));
+    }
+
+    public Long getCurrentChallengeIdByUserId(Long userId) {
+        return userRepository.findCurrentChallengeIdById(userId).orElseThrow(() -> {
+            // 컬럼 값이 null인 경우와 유저가 없는 경우를 구분합니다.
+            this.checkIsExistUserId(userId);
+            return new UserException(UserError.NOT_FOUND_CURRENT_CHALLENGE_ID);
+        });
     }
 
     @Deprecated
@@ -123,15 +143,26 @@ public class UserService {
     @Transactional(readOnly = true)
     @Deprecated
     public IsLockTodayResponse checkIsTodayLockDeprecated(Long userId, LocalDate lockCheckDate) {
-        LocalDate userRecentLockDate = this.findByIdOrThrowException(userId).getRecentLockDate();
-        return new IsLockTodayResponse(lockCheckDate.equals(userRecentLockDate));
+        return new IsLockTodayResponse(lockCheckDate.equals(this.getRecentLockDateByUserId(userId)));
     }
 
     @Transactional(readOnly = true)
     public IsLockTodayResponse checkIsTodayLock(Long userId, String timeZone) {
         LocalDate now = LocalDate.now(ZoneId.of(timeZone));
-        LocalDate userRecentLockDate = this.findByIdOrThrowException(userId).getRecentLockDate();
-        return new IsLockTodayResponse(now.equals(userRecentLockDate));
+        return new IsLockTodayResponse(now.equals(this.getRecentLockDateByUserId(userId)));
+    }
+
+    private LocalDate getRecentLockDateByUserId(Long userId) {
+        return userRepository.findRecentLockDateById(userId).orElseGet(() -> {
+            this.checkIsExistUserId(userId);
+            return null;
+        });
+    }
+
+    public long deleteUsersByIds(List<Long> userIds) {
+        return problemRepository.deleteByUserIdIn(userIds)
+                + onboardingInfoRepository.deleteByUserIdIn(userIds)
+                + userRepository.deleteByIdIn(userIds);
     }
 
     public void withdrawImmediately(Long userId) {
@@ -0,0 +1,24 @@
+package sopt.org.hmh.global.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenDigester {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
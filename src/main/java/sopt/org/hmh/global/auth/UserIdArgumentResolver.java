@@ -8,6 +8,8 @@ import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 
 @Component
 @RequiredArgsConstructor
@@ -23,9 +25,12 @@ public class UserIdArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
             NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
-        return Long.parseLong(SecurityContextHolder.getContext()
+        Object principal = SecurityContextHolder.getContext()
                 .getAuthentication()
-                .getPrincipal()
-                .toString());
+                .getPrincipal();
+        if (principal instanceof Long userId) {
+            return userId;
+        }
+        throw new JwtException(JwtError.EMPTY_PRINCIPLE_EXCEPTION);
     }
-}
\ No newline at end of file
+}
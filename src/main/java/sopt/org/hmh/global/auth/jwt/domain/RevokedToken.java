@@ -0,0 +1,35 @@
+package sopt.org.hmh.global.auth.jwt.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(unique = true)
+    @NotNull(message = "토큰 아이디는 null일 수 없습니다.")
+    private String tokenId;
+    @NotNull(message = "토큰 만료 시각은 null일 수 없습니다.")
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public RevokedToken(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+}
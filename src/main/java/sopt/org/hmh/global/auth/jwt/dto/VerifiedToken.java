@@ -0,0 +1,18 @@
+package sopt.org.hmh.global.auth.jwt.dto;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+public record VerifiedToken(
+        String id,
+        String subject,
+        Instant expiration
+) {
+    public static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getExpiration().toInstant()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package sopt.org.hmh.global.auth.jwt.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sopt.org.hmh.global.auth.jwt.domain.RevokedToken;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    List<RevokedToken> findAllByIdGreaterThanAndExpiresAtAfter(Long id, LocalDateTime now);
+
+    @Query("SELECT r FROM RevokedToken r "
+            + "WHERE (r.id > :lastSyncedId OR r.expiresAt > :recentlyRevokedExpiresAt) AND r.expiresAt > :now")
+    List<RevokedToken> findAllRevokedAfter(@Param("lastSyncedId") Long lastSyncedId,
+            @Param("recentlyRevokedExpiresAt") LocalDateTime recentlyRevokedExpiresAt,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteByExpiresAtBefore(@Param("now") LocalDateTime now);
+}
@@ -6,9 +6,11 @@ import io.jsonwebtoken.Header;
 import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,16 +29,28 @@ public class JwtGenerator {
     @Value("${jwt.admin-access-token-expiration-time}")
     private Long ADMIN_ACCESS_TOKEN_EXPIRATION_TIME;
 
-    public String generateToken(String subjectId, boolean isRefreshToken) {
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    protected void init() {
+        this.signingKey = Keys.hmacShaKeyFor(encodeSecretKey().getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
+    public String generateToken(String subjectId, String tokenId, boolean isRefreshToken) {
         final Date now = generateNowDate();
         final Date expiration = generateExpirationDate(isRefreshToken, now);
 
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setSubject(subjectId)
+                .setId(tokenId)
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -46,16 +60,15 @@ public class JwtGenerator {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setSubject(ADMIN_ROLE)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ADMIN_ACCESS_TOKEN_EXPIRATION_TIME))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public JwtParser getJwtParser() {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build();
+        return jwtParser;
     }
 
     private Date generateNowDate() {
@@ -66,10 +79,6 @@ public class JwtGenerator {
         return new Date(now.getTime() + calculateExpirationTime(isRefreshToken));
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(encodeSecretKey().getBytes());
-    }
-
     private long calculateExpirationTime(boolean isRefreshToken) {
         if (isRefreshToken) {
             return REFRESH_TOKEN_EXPIRATION_TIME;
@@ -1,8 +1,6 @@
 package sopt.org.hmh.global.auth.jwt.service;
 
-import static sopt.org.hmh.global.auth.jwt.service.JwtPrefixExtractor.extractPrefix;
-
-import io.jsonwebtoken.JwtParser;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import sopt.org.hmh.global.auth.jwt.dto.TokenResponse;
@@ -14,16 +12,10 @@ public class JwtProvider {
     private final JwtGenerator jwtGenerator;
 
     public TokenResponse issueToken(String subjectId) {
-        return new TokenResponse(jwtGenerator.generateToken(subjectId, false),
-                jwtGenerator.generateToken(subjectId, true));
-    }
-
-    public String getSubject(String token) {
-        String extractedToken = extractPrefix(token);
-        JwtParser jwtParser = jwtGenerator.getJwtParser();
-        return jwtParser.parseClaimsJws(extractedToken)
-                .getBody()
-                .getSubject();
+        // 로그아웃 시 한 번의 폐기로 두 토큰이 함께 무효화되도록 같은 jti를 사용합니다.
+        final String tokenId = UUID.randomUUID().toString();
+        return new TokenResponse(jwtGenerator.generateToken(subjectId, tokenId, false),
+                jwtGenerator.generateToken(subjectId, tokenId, true));
     }
 
     public String issueAdminToken() {
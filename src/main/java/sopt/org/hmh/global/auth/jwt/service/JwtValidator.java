@@ -1,6 +1,5 @@
 package sopt.org.hmh.global.auth.jwt.service;
 
-import static sopt.org.hmh.global.auth.jwt.JwtConstants.ADMIN_ROLE;
 import static sopt.org.hmh.global.auth.jwt.service.JwtPrefixExtractor.extractPrefix;
 
 import io.jsonwebtoken.Claims;
@@ -9,6 +8,7 @@ import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtParser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import sopt.org.hmh.global.auth.jwt.dto.VerifiedToken;
 import sopt.org.hmh.global.auth.jwt.exception.JwtError;
 import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 
@@ -16,10 +16,11 @@ import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 @Component
 public class JwtValidator {
     private final JwtGenerator jwtGenerator;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public void validateAccessToken(String accessToken) {
+    public VerifiedToken validateAccessToken(String accessToken) {
         try {
-            parseToken(accessToken);
+            return verifiedTokenCache.get(extractPrefix(accessToken), this::verifyToken);
         } catch (ExpiredJwtException e) {
             throw new JwtException(JwtError.EXPIRED_ACCESS_TOKEN);
         } catch (Exception e) {
@@ -27,9 +28,9 @@ public class JwtValidator {
         }
     }
 
-    public void validateRefreshToken(String refreshToken) {
+    public VerifiedToken validateRefreshToken(String refreshToken) {
         try {
-            parseToken(refreshToken);
+            return VerifiedToken.of(parseToken(refreshToken).getBody());
         } catch (ExpiredJwtException e) {
             throw new JwtException(JwtError.EXPIRED_REFRESH_TOKEN);
         } catch (Exception e) {
@@ -37,16 +38,14 @@ public class JwtValidator {
         }
     }
 
+    private VerifiedToken verifyToken(String extractedToken) {
+        JwtParser jwtParser = jwtGenerator.getJwtParser();
+        return VerifiedToken.of(jwtParser.parseClaimsJws(extractedToken).getBody());
+    }
+
     private Jws<Claims> parseToken(String token) {
         String extractedToken = extractPrefix(token);
         JwtParser jwtParser = jwtGenerator.getJwtParser();
         return jwtParser.parseClaimsJws(extractedToken);
     }
-
-    public void validateAdminToken(String token) {
-        String subject = parseToken(token).getBody().getSubject();
-        if (!subject.equals(ADMIN_ROLE)) {
-            throw new JwtException(JwtError.INVALID_ADMIN_TOKEN);
-        }
-    }
 }
\ No newline at end of file
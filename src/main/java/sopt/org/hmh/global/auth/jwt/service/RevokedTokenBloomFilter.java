@@ -0,0 +1,65 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 아이디를 담는 스레드 안전한 블룸 필터입니다. false를 반환하면 폐기되지 않은 토큰임이 보장됩니다.
+ */
+class RevokedTokenBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    private RevokedTokenBloomFilter(int bitSize, int hashCount) {
+        this.bits = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    static RevokedTokenBloomFilter create(int expectedInsertions, double falsePositiveProbability) {
+        int insertions = Math.max(1, expectedInsertions);
+        double log2 = Math.log(2);
+        long bitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (log2 * log2));
+        bitSize = Math.min(Math.max(Long.SIZE, bitSize), Integer.MAX_VALUE - Long.SIZE);
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * log2));
+        return new RevokedTokenBloomFilter((int) bitSize, hashCount);
+    }
+
+    void put(String tokenId) {
+        long hash = hash(tokenId);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            long mask = 1L << bitIndex;
+            bits.getAndAccumulate(bitIndex / Long.SIZE, mask, (current, bit) -> current | bit);
+        }
+    }
+
+    boolean mightContain(String tokenId) {
+        long hash = hash(tokenId);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get(bitIndex / Long.SIZE) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String tokenId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : tokenId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
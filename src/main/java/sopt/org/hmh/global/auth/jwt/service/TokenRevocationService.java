@@ -0,0 +1,125 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sopt.org.hmh.global.auth.jwt.domain.RevokedToken;
+import sopt.org.hmh.global.auth.jwt.repository.RevokedTokenRepository;
+
+/**
+ * 로그아웃·탈퇴로 폐기된 토큰 아이디(jti)를 저장하고, 요청마다 DB 조회 없이 블룸 필터로 먼저 폐기 여부를 판단합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.refresh-token-expiration-time}")
+    private Long refreshTokenExpirationTime;
+    @Value("${jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+    @Value("${jwt.revocation.false-positive-probability:0.001}")
+    private double falsePositiveProbability;
+    @Value("${jwt.revocation.sync-overlap-seconds:60}")
+    private long syncOverlapSeconds;
+
+    private volatile RevokedTokenBloomFilter bloomFilter;
+    private volatile long lastSyncedId = 0L;
+
+    @PostConstruct
+    protected void init() {
+        this.loadBloomFilter();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    public void revoke(String tokenId) {
+        if (tokenId == null) {
+            return;
+        }
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            this.saveRevokedToken(tokenId);
+        }
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기된 토큰을 반영합니다.
+     * IDENTITY 아이디는 커밋 순서와 다를 수 있어, 마지막으로 읽은 아이디 이후의 행과 함께 최근 폐기된 행을 겹쳐 다시 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public synchronized void syncRecentlyRevoked() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 폐기 시각 + 리프레시 토큰 수명 = 만료 시각이므로, 만료 시각으로 최근 폐기 여부를 판단합니다.
+            LocalDateTime recentlyRevokedExpiresAt = now
+                    .plusNanos(refreshTokenExpirationTime * 1_000_000L)
+                    .minusSeconds(syncOverlapSeconds);
+            long syncedId = this.addAll(revokedTokenRepository.findAllRevokedAfter(
+                    lastSyncedId, recentlyRevokedExpiresAt, now), bloomFilter);
+            this.lastSyncedId = Math.max(lastSyncedId, syncedId);
+        } catch (RuntimeException exception) {
+            log.warn(">>> Revoked token sync failed : {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * 만료된 행을 정리하고 남은 행으로 필터를 다시 만들어 오탐률이 누적되지 않도록 합니다.
+     */
+    @Transactional
+    @Scheduled(cron = "${jwt.revocation.rebuild-cron:0 30 * * * *}")
+    public void rebuild() {
+        int deletedCount = revokedTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
+        this.loadBloomFilter();
+        log.info(">>> Revoked token filter rebuilt, {} expired rows deleted", deletedCount);
+    }
+
+    private synchronized void loadBloomFilter() {
+        RevokedTokenBloomFilter loadedFilter =
+                RevokedTokenBloomFilter.create(expectedInsertions, falsePositiveProbability);
+        long syncedId = this.addAll(revokedTokenRepository.findAllByIdGreaterThanAndExpiresAtAfter(
+                0L, LocalDateTime.now()), loadedFilter);
+        this.bloomFilter = loadedFilter;
+        this.lastSyncedId = syncedId;
+    }
+
+    private void saveRevokedToken(String tokenId) {
+        // 액세스·리프레시 토큰이 같은 jti를 공유하므로 더 긴 리프레시 토큰 만료 시각까지 보관합니다.
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                Instant.now().plusMillis(refreshTokenExpirationTime), ZoneId.systemDefault());
+        try {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .tokenId(tokenId)
+                    .expiresAt(expiresAt)
+                    .build());
+        } catch (DataIntegrityViolationException exception) {
+            // 같은 jti로 동시에 로그아웃한 경우이며, 이미 폐기된 것으로 봅니다.
+            log.debug(">>> Token {} was revoked concurrently", tokenId);
+        }
+    }
+
+    private long addAll(List<RevokedToken> revokedTokens, RevokedTokenBloomFilter filter) {
+        long maxId = 0L;
+        for (RevokedToken revokedToken : revokedTokens) {
+            filter.put(revokedToken.getTokenId());
+            maxId = Math.max(maxId, revokedToken.getId());
+        }
+        return maxId;
+    }
+}
@@ -1,12 +1,12 @@
 package sopt.org.hmh.global.auth.jwt.service;
 
-import static sopt.org.hmh.global.auth.jwt.service.JwtPrefixExtractor.extractPrefix;
-
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import sopt.org.hmh.domain.auth.dto.response.ReissueResponse;
 import sopt.org.hmh.global.auth.jwt.dto.TokenResponse;
+import sopt.org.hmh.global.auth.jwt.dto.VerifiedToken;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 
 @Service
 @RequiredArgsConstructor
@@ -14,13 +14,24 @@ public class TokenService {
 
     private final JwtProvider jwtProvider;
     private final JwtValidator jwtValidator;
+    private final TokenRevocationService tokenRevocationService;
 
-    @Transactional
     public ReissueResponse reissueToken(String refreshToken) {
-        String parsedRefreshToken = extractPrefix(refreshToken);
-        String userId = jwtProvider.getSubject(parsedRefreshToken);
-        jwtValidator.validateRefreshToken(parsedRefreshToken);
-        return ReissueResponse.of(jwtProvider.issueToken(userId));
+        VerifiedToken verifiedToken = jwtValidator.validateRefreshToken(refreshToken);
+        this.validateNotRevoked(verifiedToken);
+        // 재발급에 쓴 리프레시 토큰은 폐기해, 로그아웃 뒤 이전 리프레시 토큰으로 다시 발급받지 못하게 합니다.
+        tokenRevocationService.revoke(verifiedToken.id());
+        return ReissueResponse.of(jwtProvider.issueToken(verifiedToken.subject()));
+    }
+
+    public void revokeToken(String accessToken) {
+        tokenRevocationService.revoke(jwtValidator.validateAccessToken(accessToken).id());
+    }
+
+    public void validateNotRevoked(VerifiedToken verifiedToken) {
+        if (tokenRevocationService.isRevoked(verifiedToken.id())) {
+            throw new JwtException(JwtError.REVOKED_TOKEN);
+        }
     }
 
     public TokenResponse issueToken(String subjectId) {
@@ -31,8 +42,4 @@ public class TokenService {
         return jwtProvider.issueAdminToken();
     }
 
-    public void validateAdminToken(String token){
-        jwtValidator.validateAdminToken(token);
-    }
-
 }
@@ -0,0 +1,71 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sopt.org.hmh.global.auth.TokenDigester;
+import sopt.org.hmh.global.auth.jwt.dto.VerifiedToken;
+
+/**
+ * 서명 검증이 끝난 액세스 토큰을 토큰 만료 시각까지 보관하는 캐시
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${jwt.verified-token-cache.enabled:false}")
+    private boolean enabled;
+    @Value("${jwt.verified-token-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    private Cache<String, VerifiedToken> cache;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpirationAlignedExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled) {
+            return verifier.apply(token);
+        }
+        return cache.get(TokenDigester.digest(token), key -> verifier.apply(token));
+    }
+
+    private static class ExpirationAlignedExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.expiration());
+            return Math.max(0L, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
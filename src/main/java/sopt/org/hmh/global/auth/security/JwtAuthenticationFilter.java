@@ -14,19 +14,21 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import sopt.org.hmh.global.auth.jwt.JwtConstants;
-import sopt.org.hmh.global.auth.jwt.service.JwtProvider;
+import sopt.org.hmh.global.auth.jwt.dto.VerifiedToken;
 import sopt.org.hmh.global.auth.jwt.service.JwtValidator;
+import sopt.org.hmh.global.auth.jwt.service.TokenService;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtValidator jwtValidator;
-    private final JwtProvider jwtProvider;
+    private final TokenService tokenService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String accessToken = getAccessToken(request);
-        jwtValidator.validateAccessToken(accessToken);
-        doAuthentication(request, jwtProvider.getSubject(accessToken));
+        final VerifiedToken verifiedToken = jwtValidator.validateAccessToken(accessToken);
+        tokenService.validateNotRevoked(verifiedToken);
+        doAuthentication(request, verifiedToken.subject());
         filterChain.doFilter(request, response);
     }
 
@@ -1,8 +1,14 @@
 package sopt.org.hmh.global.auth.security;
 
+import static sopt.org.hmh.global.auth.jwt.JwtConstants.ADMIN_ROLE;
+
 import java.util.Collection;
+import java.util.List;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 
 public class UserAuthentication extends UsernamePasswordAuthenticationToken {
 
@@ -11,6 +17,17 @@ public class UserAuthentication extends UsernamePasswordAuthenticationToken {
     }
 
     public static UserAuthentication createUserAuthentication(String subjectId) {
-        return new UserAuthentication(subjectId, null, null);
+        if (ADMIN_ROLE.equals(subjectId)) {
+            return new UserAuthentication(ADMIN_ROLE, null, List.of(new SimpleGrantedAuthority(ADMIN_ROLE)));
+        }
+        try {
+            return new UserAuthentication(Long.valueOf(subjectId), null, null);
+        } catch (NumberFormatException exception) {
+            throw new JwtException(JwtError.INVALID_ACCESS_TOKEN);
+        }
+    }
+
+    public boolean isAdmin() {
+        return ADMIN_ROLE.equals(this.getPrincipal());
     }
-}
\ No newline at end of file
+}
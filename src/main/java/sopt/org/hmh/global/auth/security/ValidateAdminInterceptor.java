@@ -2,22 +2,22 @@ package sopt.org.hmh.global.auth.security;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
-import sopt.org.hmh.global.auth.jwt.JwtConstants;
-import sopt.org.hmh.global.auth.jwt.service.TokenService;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 
 @Component
-@RequiredArgsConstructor
 public class ValidateAdminInterceptor implements HandlerInterceptor {
 
-    private final TokenService tokenService;
-
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        String accessToken = request.getHeader(JwtConstants.AUTHORIZATION);
-        tokenService.validateAdminToken(accessToken);
-        return true;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UserAuthentication userAuthentication && userAuthentication.isAdmin()) {
+            return true;
+        }
+        throw new JwtException(JwtError.INVALID_ADMIN_TOKEN);
     }
 }
@@ -0,0 +1,18 @@
+package sopt.org.hmh.global.auth.social;
+
+import java.time.Instant;
+
+public record SocialUserInfo(
+        SocialPlatform socialPlatform,
+        String socialId,
+        String nickname,
+        Instant expiresAt
+) {
+    public static SocialUserInfo ofApple(String socialId, Instant expiresAt) {
+        return new SocialUserInfo(SocialPlatform.APPLE, socialId, null, expiresAt);
+    }
+
+    public static SocialUserInfo ofKakao(String socialId, String nickname) {
+        return new SocialUserInfo(SocialPlatform.KAKAO, socialId, nickname, null);
+    }
+}
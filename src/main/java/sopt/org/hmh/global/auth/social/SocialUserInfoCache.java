@@ -0,0 +1,84 @@
+package sopt.org.hmh.global.auth.social;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sopt.org.hmh.global.auth.TokenDigester;
+
+/**
+ * 로그인 재시도 시 같은 소셜 토큰으로 소셜 플랫폼 검증을 반복하지 않도록, 검증 결과를 짧게 보관하는 캐시
+ * 애플은 아이덴티티 토큰의 만료 시각을 넘지 않고, 카카오는 설정된 TTL 만큼만 보관합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SocialUserInfoCache {
+
+    private static final String CACHE_NAME = "social.user-info";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${oauth2.user-info-cache.enabled:true}")
+    private boolean enabled;
+    @Value("${oauth2.user-info-cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${oauth2.user-info-cache.kakao-ttl-seconds:30}")
+    private long kakaoTtlSeconds;
+    @Value("${oauth2.user-info-cache.apple-max-ttl-seconds:300}")
+    private long appleMaxTtlSeconds;
+
+    private Cache<String, SocialUserInfo> cache;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new SocialUserInfoExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public SocialUserInfo get(SocialPlatform socialPlatform, String socialAccessToken, Supplier<SocialUserInfo> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String key = socialPlatform.name() + ":" + TokenDigester.digest(socialAccessToken);
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    private Duration calculateTimeToLive(SocialUserInfo socialUserInfo) {
+        if (socialUserInfo.socialPlatform() == SocialPlatform.APPLE) {
+            Duration untilExpiration = Duration.between(Instant.now(), socialUserInfo.expiresAt());
+            Duration maxTimeToLive = Duration.ofSeconds(appleMaxTtlSeconds);
+            return untilExpiration.compareTo(maxTimeToLive) < 0 ? untilExpiration : maxTimeToLive;
+        }
+        return Duration.ofSeconds(kakaoTtlSeconds);
+    }
+
+    private class SocialUserInfoExpiry implements Expiry<String, SocialUserInfo> {
+
+        @Override
+        public long expireAfterCreate(String key, SocialUserInfo value, long currentTime) {
+            return Math.max(0L, calculateTimeToLive(value).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SocialUserInfo value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, SocialUserInfo value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package sopt.org.hmh.global.auth.social.apple.fegin;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import sopt.org.hmh.global.auth.social.apple.response.ApplePublicKeysResponse;
+import sopt.org.hmh.global.config.feign.SocialFeignClientConfig;
 
-@FeignClient(name = "appleFeignClient", url = "${oauth2.apple.base-url}")
+@FeignClient(name = "appleFeignClient", url = "${oauth2.apple.base-url}", configuration = SocialFeignClientConfig.class)
 public interface AppleFeignClient {
     
     @GetMapping("/auth/keys")
-    ApplePublicKeysResponse getApplePublicKeys();
+    ResponseEntity<ApplePublicKeysResponse> getApplePublicKeys();
 }
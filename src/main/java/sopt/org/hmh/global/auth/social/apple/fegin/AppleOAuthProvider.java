@@ -7,23 +7,21 @@ import java.security.PublicKey;
 import java.util.Map;
 import sopt.org.hmh.global.auth.jwt.exception.JwtError;
 import sopt.org.hmh.global.auth.jwt.exception.JwtException;
-import sopt.org.hmh.global.auth.social.apple.response.ApplePublicKeysResponse;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
 
 @RequiredArgsConstructor
 @Component
 public class AppleOAuthProvider {
-    private final AppleFeignClient appleFeignClient;
+    private final ApplePublicKeyStore applePublicKeyStore;
     private final AppleIdentityTokenParser appleIdentityTokenParser;
-    private final ApplePublicKeyGenerator applePublicKeyGenerator;
     private final AppleIdentityTokenValidator appleIdentityTokenValidator;
 
-    public String getApplePlatformId(String identityToken) {
+    public SocialUserInfo getAppleUserInfo(String identityToken) {
         Map<String, String> headers = appleIdentityTokenParser.parseHeaders(identityToken);
-        ApplePublicKeysResponse applePublicKeysResponse = appleFeignClient.getApplePublicKeys();
-        PublicKey publicKey = applePublicKeyGenerator.generatePublicKeyWithApplePublicKeys(headers, applePublicKeysResponse);
+        PublicKey publicKey = applePublicKeyStore.getPublicKey(headers.get("kid"), headers.get("alg"));
         Claims claims = appleIdentityTokenParser.parseWithPublicKeyAndGetClaims(identityToken, publicKey);
         validateClaims(claims);
-        return claims.getSubject();
+        return SocialUserInfo.ofApple(claims.getSubject(), claims.getExpiration().toInstant());
     }
 
     private void validateClaims(Claims claims) {
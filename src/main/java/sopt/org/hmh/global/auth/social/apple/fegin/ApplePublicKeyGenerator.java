@@ -7,19 +7,14 @@ import java.security.PublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.RSAPublicKeySpec;
 import java.util.Base64;
-import java.util.Map;
 import java.math.BigInteger;
 import sopt.org.hmh.global.auth.jwt.exception.JwtError;
 import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 import sopt.org.hmh.global.auth.social.apple.response.ApplePublicKeyResponse;
-import sopt.org.hmh.global.auth.social.apple.response.ApplePublicKeysResponse;
 
 @Component
 public class ApplePublicKeyGenerator {
-    public PublicKey generatePublicKeyWithApplePublicKeys(Map<String, String> headers, ApplePublicKeysResponse applePublicKeysResponse) {
-        ApplePublicKeyResponse applePublicKeyResponse = applePublicKeysResponse
-                .getMatchesKey(headers.get("alg"), headers.get("kid"));
-
+    public PublicKey generatePublicKey(ApplePublicKeyResponse applePublicKeyResponse) {
         byte[] nBytes = Base64.getUrlDecoder().decode(applePublicKeyResponse.n());
         byte[] eBytes = Base64.getUrlDecoder().decode(applePublicKeyResponse.e());
 
@@ -33,4 +28,4 @@ public class ApplePublicKeyGenerator {
             throw new JwtException(JwtError.UNABLE_TO_CREATE_APPLE_PUBLIC_KEY);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package sopt.org.hmh.global.auth.social.apple.fegin;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
+import sopt.org.hmh.global.auth.social.apple.response.ApplePublicKeysResponse;
+
+/**
+ * 애플 퍼블릭 키를 (kid, alg) 기준으로 디코딩해 보관하고, 응답의 캐시 유효 시간에 맞춰 백그라운드에서 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplePublicKeyStore {
+
+    private static final Pattern MAX_AGE_PATTERN = Pattern.compile("max-age=(\\d+)");
+
+    private final AppleFeignClient appleFeignClient;
+    private final ApplePublicKeyGenerator applePublicKeyGenerator;
+
+    @Value("${oauth2.apple.public-key.default-max-age-seconds:3600}")
+    private long defaultMaxAgeSeconds;
+    @Value("${oauth2.apple.public-key.refresh-before-seconds:300}")
+    private long refreshBeforeSeconds;
+    @Value("${oauth2.apple.public-key.min-refetch-interval-seconds:60}")
+    private long minRefetchIntervalSeconds;
+
+    private volatile ApplePublicKeySet publicKeySet = ApplePublicKeySet.EMPTY;
+
+    public PublicKey getPublicKey(String kid, String alg) {
+        ApplePublicKeyId publicKeyId = new ApplePublicKeyId(kid, alg);
+
+        PublicKey publicKey = this.getValidPublicKeySet().find(publicKeyId);
+        if (publicKey != null) {
+            return publicKey;
+        }
+
+        publicKey = this.refetchForUnknownKey(publicKeyId).find(publicKeyId);
+        if (publicKey == null) {
+            throw new JwtException(JwtError.INVALID_IDENTITY_TOKEN);
+        }
+        return publicKey;
+    }
+
+    @Scheduled(fixedDelayString = "${oauth2.apple.public-key.refresh-check-interval-ms:60000}")
+    public void refreshBeforeExpiration() {
+        if (!publicKeySet.isExpiredAt(Instant.now().plusSeconds(refreshBeforeSeconds))) {
+            return;
+        }
+        try {
+            this.refresh();
+        } catch (RuntimeException exception) {
+            log.warn(">>> Apple public key background refresh failed : {}", exception.getMessage());
+        }
+    }
+
+    private ApplePublicKeySet getValidPublicKeySet() {
+        ApplePublicKeySet current = publicKeySet;
+        if (!current.isExpiredAt(Instant.now())) {
+            return current;
+        }
+        synchronized (this) {
+            if (publicKeySet.isExpiredAt(Instant.now())) {
+                return this.refreshOrKeepStale();
+            }
+            return publicKeySet;
+        }
+    }
+
+    private synchronized ApplePublicKeySet refetchForUnknownKey(ApplePublicKeyId publicKeyId) {
+        ApplePublicKeySet current = publicKeySet;
+        boolean fetchedRecently = current.fetchedAt()
+                .plusSeconds(minRefetchIntervalSeconds)
+                .isAfter(Instant.now());
+        if (current.find(publicKeyId) != null || fetchedRecently) {
+            return current;
+        }
+        return this.refreshOrKeepStale();
+    }
+
+    private ApplePublicKeySet refreshOrKeepStale() {
+        try {
+            return this.refresh();
+        } catch (RuntimeException exception) {
+            if (publicKeySet.isEmpty()) {
+                throw exception;
+            }
+            log.warn(">>> Apple public key refresh failed, using stale keys : {}", exception.getMessage());
+            return publicKeySet;
+        }
+    }
+
+    private synchronized ApplePublicKeySet refresh() {
+        ResponseEntity<ApplePublicKeysResponse> response = appleFeignClient.getApplePublicKeys();
+        Instant now = Instant.now();
+
+        Map<ApplePublicKeyId, PublicKey> publicKeys = Objects.requireNonNull(response.getBody()).getKeys().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        key -> new ApplePublicKeyId(key.kid(), key.alg()),
+                        applePublicKeyGenerator::generatePublicKey,
+                        (existing, duplicated) -> existing));
+
+        this.publicKeySet = new ApplePublicKeySet(publicKeys, now, now.plus(this.getMaxAge(response.getHeaders())));
+        return publicKeySet;
+    }
+
+    private Duration getMaxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE_PATTERN.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return Duration.ofSeconds(defaultMaxAgeSeconds);
+    }
+
+    private record ApplePublicKeyId(String kid, String alg) {
+    }
+
+    private record ApplePublicKeySet(Map<ApplePublicKeyId, PublicKey> publicKeys, Instant fetchedAt, Instant expiresAt) {
+
+        private static final ApplePublicKeySet EMPTY = new ApplePublicKeySet(Map.of(), Instant.EPOCH, Instant.EPOCH);
+
+        private PublicKey find(ApplePublicKeyId publicKeyId) {
+            return publicKeys.get(publicKeyId);
+        }
+
+        private boolean isExpiredAt(Instant instant) {
+            return !expiresAt.isAfter(instant);
+        }
+
+        private boolean isEmpty() {
+            return publicKeys.isEmpty();
+        }
+    }
+}
@@ -5,8 +5,9 @@ import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import sopt.org.hmh.global.config.feign.SocialFeignClientConfig;
 
-@FeignClient(name = "kakaoAuthApiClient", url = "https://kauth.kakao.com")
+@FeignClient(name = "kakaoAuthApiClient", url = "https://kauth.kakao.com", configuration = SocialFeignClientConfig.class)
 public interface KakaoAuthFeignClient {
 
     @PostMapping(value = "/oauth/token", consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
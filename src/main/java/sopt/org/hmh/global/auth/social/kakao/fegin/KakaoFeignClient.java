@@ -5,8 +5,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import sopt.org.hmh.global.auth.social.kakao.response.KakaoUserResponse;
+import sopt.org.hmh.global.config.feign.SocialFeignClientConfig;
 
-@FeignClient(name = "kakaoApiClient", url = "${oauth2.kakao.base-url}")
+@FeignClient(name = "kakaoApiClient", url = "${oauth2.kakao.base-url}", configuration = SocialFeignClientConfig.class)
 public interface KakaoFeignClient {
 
     @GetMapping(value = "/v2/user/me")
@@ -4,16 +4,14 @@ import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import sopt.org.hmh.domain.user.domain.User;
 import sopt.org.hmh.global.auth.jwt.exception.JwtError;
 import sopt.org.hmh.global.auth.jwt.exception.JwtException;
 import sopt.org.hmh.global.auth.social.SocialAccessTokenResponse;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
 import sopt.org.hmh.global.auth.social.kakao.response.KakaoTokenResponse;
 import sopt.org.hmh.global.auth.social.kakao.response.KakaoUserResponse;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class KakaoLoginService {
 
@@ -27,15 +25,14 @@ public class KakaoLoginService {
     @Value("${oauth2.kakao.redirect-uri}")
     private String REDIRECT_URL;
 
-    public String getSocialIdByKakao(final String socialAccessToken) {
-        return String.valueOf(getKakaoUserRequest(socialAccessToken).id());
+    public SocialUserInfo getSocialUserInfoByKakao(final String socialAccessToken) {
+        KakaoUserResponse userResponse = getKakaoUserRequest(socialAccessToken);
+        return SocialUserInfo.ofKakao(String.valueOf(userResponse.id()), getNickname(userResponse));
     }
 
-    public void updateUserInfoByKakao(User loginUser, final String socialAccessToken) {
-        KakaoUserResponse userRequest = getKakaoUserRequest(socialAccessToken);
-
+    private String getNickname(KakaoUserResponse userResponse) {
         try {
-            loginUser.updateNickname(userRequest.kakaoAccount().profile().nickname());
+            return userResponse.kakaoAccount().profile().nickname();
         } catch (NullPointerException exception) {
             throw new JwtException(JwtError.INVALID_SOCIAL_ACCESS_TOKEN_FORMAT);
         }
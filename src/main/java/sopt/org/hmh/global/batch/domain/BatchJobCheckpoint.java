@@ -0,0 +1,47 @@
+package sopt.org.hmh.global.batch.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sopt.org.hmh.global.common.domain.BaseTimeEntity;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BatchJobCheckpoint extends BaseTimeEntity {
+
+    private static final long INITIAL_ID = 0L;
+
+    @Id
+    private String jobName;
+
+    @NotNull(message = "마지막 처리 id는 null일 수 없습니다.")
+    private Long lastProcessedId;
+
+    private boolean isRunning;
+
+    public BatchJobCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lastProcessedId = INITIAL_ID;
+        this.isRunning = false;
+    }
+
+    public void start() {
+        if (!this.isRunning) {
+            this.lastProcessedId = INITIAL_ID;
+            this.isRunning = true;
+        }
+    }
+
+    public void advance(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+    }
+
+    public void complete() {
+        this.lastProcessedId = INITIAL_ID;
+        this.isRunning = false;
+    }
+}
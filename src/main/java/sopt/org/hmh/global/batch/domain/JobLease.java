@@ -0,0 +1,24 @@
+package sopt.org.hmh.global.batch.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLease {
+
+    @Id
+    private String jobName;
+
+    @NotNull(message = "리스 보유자는 null일 수 없습니다.")
+    private String holder;
+
+    @NotNull(message = "리스 만료 시각은 null일 수 없습니다.")
+    private LocalDateTime leasedUntil;
+}
@@ -0,0 +1,7 @@
+package sopt.org.hmh.global.batch.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sopt.org.hmh.global.batch.domain.BatchJobCheckpoint;
+
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+}
@@ -0,0 +1,31 @@
+package sopt.org.hmh.global.batch.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import sopt.org.hmh.global.batch.domain.JobLease;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLease l SET l.holder = :holder, l.leasedUntil = :leasedUntil "
+            + "WHERE l.jobName = :jobName AND (l.leasedUntil < :now OR l.holder = :holder)")
+    int acquireIfAvailable(@Param("jobName") String jobName, @Param("holder") String holder,
+                           @Param("now") LocalDateTime now, @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("INSERT INTO JobLease (jobName, holder, leasedUntil) VALUES (:jobName, :holder, :leasedUntil)")
+    int insertLease(@Param("jobName") String jobName, @Param("holder") String holder,
+                    @Param("leasedUntil") LocalDateTime leasedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leasedUntil = :leasedUntil WHERE l.jobName = :jobName AND l.holder = :holder")
+    int updateLeasedUntilIfHeld(@Param("jobName") String jobName, @Param("holder") String holder,
+                                @Param("leasedUntil") LocalDateTime leasedUntil);
+}
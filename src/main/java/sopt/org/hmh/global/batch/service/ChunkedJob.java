@@ -0,0 +1,21 @@
+package sopt.org.hmh.global.batch.service;
+
+import java.util.List;
+
+/**
+ * id 오름차순으로 나눠 처리할 수 있는 배치 작업입니다. {@link ChunkedJobRunner}가 청크마다 트랜잭션을 열어 호출합니다.
+ */
+public interface ChunkedJob {
+
+    String getName();
+
+    /**
+     * afterId보다 큰 처리 대상 id를 오름차순으로 최대 chunkSize개 반환합니다.
+     */
+    List<Long> readChunk(Long afterId, int chunkSize);
+
+    /**
+     * 청크를 처리하고 영향을 받은 행 수를 반환합니다.
+     */
+    long processChunk(List<Long> ids);
+}
@@ -0,0 +1,148 @@
+package sopt.org.hmh.global.batch.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.global.batch.domain.BatchJobCheckpoint;
+import sopt.org.hmh.global.batch.repository.BatchJobCheckpointRepository;
+
+/**
+ * {@link ChunkedJob}을 청크 단위 트랜잭션으로 실행합니다.
+ * 청크와 체크포인트를 같은 트랜잭션에 커밋하므로 중단된 실행은 다음 실행에서 이어서 처리되며, 초당 처리 행 수를 제한할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedJobRunner {
+
+    private static final String PROPERTY_PREFIX = "batch.jobs.";
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final double UNLIMITED_ROWS_PER_SECOND = 0;
+
+    private final BatchJobCheckpointRepository batchJobCheckpointRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final Map<String, AtomicLong> checkpointGauges = new ConcurrentHashMap<>();
+
+    public long run(ChunkedJob job) {
+        String jobName = job.getName();
+        int chunkSize = environment.getProperty(
+                PROPERTY_PREFIX + jobName + ".chunk-size", Integer.class, DEFAULT_CHUNK_SIZE);
+        double rowsPerSecond = environment.getProperty(
+                PROPERTY_PREFIX + jobName + ".rows-per-second", Double.class, UNLIMITED_ROWS_PER_SECOND);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Counter rowCounter = Counter.builder("batch.job.rows").tag("job", jobName).register(meterRegistry);
+        Timer chunkTimer = Timer.builder("batch.job.chunk.duration").tag("job", jobName).register(meterRegistry);
+        AtomicLong checkpointGauge = this.getCheckpointGauge(jobName);
+
+        Long lastProcessedId = transactionTemplate.execute(status -> this.startCheckpoint(jobName));
+        log.info(">>> Batch job {} started after id {}", jobName, lastProcessedId);
+
+        Timer.Sample runSample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+        long processedRows = 0;
+        String result = "failed";
+        try {
+            while (true) {
+                Long afterId = lastProcessedId;
+                Optional<ChunkResult> chunkResult = chunkTimer.record(() -> transactionTemplate.execute(
+                        status -> this.processChunk(job, afterId, chunkSize)));
+                if (chunkResult == null || chunkResult.isEmpty()) {
+                    break;
+                }
+                lastProcessedId = chunkResult.get().lastProcessedId();
+                processedRows += chunkResult.get().affectedRows();
+                rowCounter.increment(chunkResult.get().affectedRows());
+                checkpointGauge.set(lastProcessedId);
+
+                if (!this.throttle(startedAt, processedRows, rowsPerSecond)) {
+                    result = "interrupted";
+                    return processedRows;
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> this.completeCheckpoint(jobName));
+            checkpointGauge.set(0L);
+            result = "completed";
+            log.info(">>> Batch job {} completed, {} rows processed", jobName, processedRows);
+            return processedRows;
+        } finally {
+            runSample.stop(Timer.builder("batch.job.duration")
+                    .tag("job", jobName)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Long startCheckpoint(String jobName) {
+        BatchJobCheckpoint checkpoint = batchJobCheckpointRepository.findById(jobName)
+                .orElseGet(() -> batchJobCheckpointRepository.save(new BatchJobCheckpoint(jobName)));
+        checkpoint.start();
+        return checkpoint.getLastProcessedId();
+    }
+
+    private Optional<ChunkResult> processChunk(ChunkedJob job, Long afterId, int chunkSize) {
+        List<Long> ids = job.readChunk(afterId, chunkSize);
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        long affectedRows = job.processChunk(ids);
+        Long lastProcessedId = ids.get(ids.size() - 1);
+        batchJobCheckpointRepository.findById(job.getName())
+                .ifPresent(checkpoint -> checkpoint.advance(lastProcessedId));
+        return Optional.of(new ChunkResult(lastProcessedId, affectedRows));
+    }
+
+    private void completeCheckpoint(String jobName) {
+        batchJobCheckpointRepository.findById(jobName).ifPresent(BatchJobCheckpoint::complete);
+    }
+
+    /**
+     * 지금까지 처리한 행 수가 허용 속도를 넘으면 그만큼 대기합니다. 인터럽트되면 false를 반환합니다.
+     */
+    private boolean throttle(long startedAt, long processedRows, double rowsPerSecond) {
+        if (rowsPerSecond <= UNLIMITED_ROWS_PER_SECOND) {
+            return true;
+        }
+        long expectedElapsed = (long) (processedRows / rowsPerSecond * TimeUnit.SECONDS.toNanos(1));
+        long waitNanos = expectedElapsed - (System.nanoTime() - startedAt);
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AtomicLong getCheckpointGauge(String jobName) {
+        return checkpointGauges.computeIfAbsent(jobName, name -> {
+            AtomicLong checkpoint = new AtomicLong();
+            Gauge.builder("batch.job.checkpoint", checkpoint, AtomicLong::get)
+                    .tag("job", name)
+                    .register(meterRegistry);
+            return checkpoint;
+        });
+    }
+
+    private record ChunkResult(Long lastProcessedId, long affectedRows) {
+    }
+}
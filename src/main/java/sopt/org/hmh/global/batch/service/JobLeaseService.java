@@ -0,0 +1,104 @@
+package sopt.org.hmh.global.batch.service;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import sopt.org.hmh.global.batch.repository.JobLeaseRepository;
+
+/**
+ * 여러 인스턴스 중 하나만 스케줄 작업을 실행하도록 DB 테이블 기반 리스를 관리합니다.
+ * 리스는 작업이 실행되는 동안 주기적으로 연장되며, 작업이 끝나거나 보유 인스턴스가 죽으면 TTL이 지난 뒤 만료됩니다.
+ */
+@Slf4j
+@Service
+public class JobLeaseService {
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final String holder;
+    private final Duration leaseTtl;
+    private final ScheduledExecutorService renewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobLeaseService(
+            JobLeaseRepository jobLeaseRepository,
+            @Value("${scheduler.lease.ttl-seconds:300}") long leaseTtlSeconds) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+        this.holder = generateHolderId();
+    }
+
+    /**
+     * 리스를 얻으면 작업을 실행하고 true를, 다른 인스턴스가 보유 중이면 실행하지 않고 false를 반환합니다.
+     */
+    public boolean runWithLease(String jobName, Runnable task) {
+        if (!this.tryAcquire(jobName)) {
+            log.info(">>> Job {} skipped, lease is held by another instance", jobName);
+            return false;
+        }
+        long renewalPeriodMillis = leaseTtl.toMillis() / 3;
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> this.renew(jobName), renewalPeriodMillis, renewalPeriodMillis, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+            return true;
+        } finally {
+            // 시계 오차로 늦게 깨어난 다른 인스턴스가 같은 회차를 다시 실행하지 않도록 리스는 TTL까지 유지합니다.
+            renewal.cancel(false);
+        }
+    }
+
+    private boolean tryAcquire(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leasedUntil = now.plus(leaseTtl);
+        if (jobLeaseRepository.acquireIfAvailable(jobName, holder, now, leasedUntil) == 1) {
+            return true;
+        }
+        if (jobLeaseRepository.existsById(jobName)) {
+            return false;
+        }
+        try {
+            return jobLeaseRepository.insertLease(jobName, holder, leasedUntil) == 1;
+        } catch (DataIntegrityViolationException exception) {
+            return false;
+        }
+    }
+
+    private void renew(String jobName) {
+        try {
+            if (jobLeaseRepository.updateLeasedUntilIfHeld(jobName, holder, LocalDateTime.now().plus(leaseTtl)) == 0) {
+                log.warn(">>> Job {} lease was lost by {}", jobName, holder);
+            }
+        } catch (RuntimeException exception) {
+            log.warn(">>> Job {} lease renewal failed : {}", jobName, exception.getMessage());
+        }
+    }
+
+    private static String generateHolderId() {
+        String hostName;
+        try {
+            hostName = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException exception) {
+            hostName = "unknown";
+        }
+        return hostName + ":" + UUID.randomUUID();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
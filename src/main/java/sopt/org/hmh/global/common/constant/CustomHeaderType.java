@@ -7,4 +7,5 @@ import lombok.NoArgsConstructor;
 public abstract class CustomHeaderType {
     public static final String OS = "OS";
     public static final String TIME_ZONE = "Time-Zone";
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 }
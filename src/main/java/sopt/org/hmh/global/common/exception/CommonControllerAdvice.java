@@ -20,7 +20,9 @@ public class CommonControllerAdvice {
         return ResponseEntity
                 .status(error.getHttpStatus())
                 .body(
-                        BaseResponse.error(error)
+                        exception.getData() == null
+                                ? BaseResponse.error(error)
+                                : BaseResponse.error(error, exception.getData())
                 );
     }
 }
\ No newline at end of file
@@ -8,13 +8,26 @@ public abstract class ExceptionBase extends RuntimeException {
     private static final String ERROR_MESSAGE_HEADER = "ERROR : ";
 
     private final ErrorBase errorBase;
+    private final Object data;
 
     protected ExceptionBase(ErrorBase errorBase) {
+        this(errorBase, null);
+    }
+
+    /**
+     * data는 에러 응답 본문의 data 필드로 그대로 내려갑니다.
+     */
+    protected ExceptionBase(ErrorBase errorBase, Object data) {
         super(ERROR_MESSAGE_HEADER + errorBase.getErrorMessage());
         this.errorBase = errorBase;
+        this.data = data;
     }
 
     public ErrorBase getError() {
         return errorBase;
     }
+
+    public Object getData() {
+        return data;
+    }
 }
\ No newline at end of file
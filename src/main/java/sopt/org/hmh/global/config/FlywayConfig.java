@@ -0,0 +1,22 @@
+package sopt.org.hmh.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마는 db/migration의 버전 마이그레이션이 관리합니다.
+ * 기존에 Hibernate가 만든 DB는 V1을 기준선으로 삼아 이후 버전만 적용합니다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final String BASELINE_VERSION = "1";
+
+    @Bean
+    public FlywayConfigurationCustomizer baselineFlywayConfigurationCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion(BASELINE_VERSION);
+    }
+}
@@ -0,0 +1,74 @@
+package sopt.org.hmh.global.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자주 바뀌지 않는 챌린지와 챌린지 앱을 Hibernate 2차 캐시에 보관합니다.
+ * 영역마다 개수와 시간 기준으로 제거되는 Caffeine 캐시를 만들고 적중률을 메트릭으로 노출합니다.
+ * 캐시는 각 JVM 안에만 있어서 변경 시 무효화도 그 변경을 처리한 인스턴스에만 적용됩니다.
+ * 여러 인스턴스를 띄우면 다른 인스턴스는 TTL이 지날 때까지 이전 값을 읽을 수 있으므로, TTL을 짧게 둡니다.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String CHALLENGE_REGION = "challenge";
+    public static final String CHALLENGE_APP_REGION = "challengeApp";
+    public static final String CHALLENGE_APPS_REGION = "challenge.apps";
+
+    private static final List<String> REGIONS = List.of(CHALLENGE_REGION, CHALLENGE_APP_REGION, CHALLENGE_APPS_REGION);
+
+    @Value("${hibernate.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${hibernate.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 같은 JVM의 다른 스프링 컨텍스트와 영역을 공유하지 않도록 컨텍스트마다 전용 CacheManager를 만듭니다.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(MeterRegistry meterRegistry) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(
+                URI.create("urn:hmh:hibernate-cache:" + UUID.randomUUID()), HibernateCacheConfig.class.getClassLoader());
+
+        for (String region : REGIONS) {
+            JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, this.createRegionConfiguration()));
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCachePropertiesCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> createRegionConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
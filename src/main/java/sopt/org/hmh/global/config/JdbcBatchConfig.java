@@ -0,0 +1,48 @@
+package sopt.org.hmh.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 일괄 저장이 실제 다중 행 INSERT로 전송되도록 JDBC 배치 관련 설정을 적용합니다.
+ */
+@Configuration
+public class JdbcBatchConfig {
+
+    private static final String MYSQL_JDBC_URL_PREFIX = "jdbc:mysql:";
+
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikariDataSource && isMySql(hikariDataSource)) {
+                    // MySQL 드라이버가 배치된 INSERT를 하나의 다중 행 INSERT로 재작성합니다.
+                    hikariDataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 다른 드라이버(테스트용 H2 등)는 알 수 없는 속성을 거부하므로 MySQL일 때만 적용합니다.
+    private static boolean isMySql(HikariDataSource hikariDataSource) {
+        String jdbcUrl = hikariDataSource.getJdbcUrl();
+        return jdbcUrl != null && jdbcUrl.startsWith(MYSQL_JDBC_URL_PREFIX);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchPropertiesCustomizer(
+            @Value("${jdbc.batch-size:100}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            hibernateProperties.put(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
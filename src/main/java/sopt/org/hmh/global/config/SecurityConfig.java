@@ -10,8 +10,8 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import sopt.org.hmh.global.auth.jwt.service.JwtProvider;
 import sopt.org.hmh.global.auth.jwt.service.JwtValidator;
+import sopt.org.hmh.global.auth.jwt.service.TokenService;
 import sopt.org.hmh.global.auth.security.JwtAuthenticationEntryPoint;
 import sopt.org.hmh.global.auth.security.JwtAuthenticationFilter;
 import sopt.org.hmh.global.auth.security.exception.ExceptionHandlerFilter;
@@ -22,7 +22,7 @@ import sopt.org.hmh.global.auth.security.exception.ExceptionHandlerFilter;
 public class SecurityConfig {
 
     private final JwtValidator jwtValidator;
-    private final JwtProvider jwtProvider;
+    private final TokenService tokenService;
     private final JwtAuthenticationEntryPoint customJwtAuthenticationEntryPoint;
 
     private static final String[] AUTH_WHITELIST = {
@@ -60,7 +60,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(authorizationManagerRequestMatcherRegistry -> // HTTP 요청에 대한 권한 설정
                         authorizationManagerRequestMatcherRegistry
                                 .anyRequest().authenticated())
-                .addFilterBefore(new JwtAuthenticationFilter(jwtValidator, jwtProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtValidator, tokenService), UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(new ExceptionHandlerFilter(), JwtAuthenticationFilter.class)
                 .build();
     }
@@ -9,12 +9,14 @@ import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import sopt.org.hmh.global.auth.UserIdArgumentResolver;
 import sopt.org.hmh.global.auth.security.ValidateAdminInterceptor;
+import sopt.org.hmh.global.idempotency.IdempotencyInterceptor;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
     private final ValidateAdminInterceptor validateAdminInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -35,5 +37,11 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(validateAdminInterceptor)
                 .addPathPatterns("/api/v1/admin/**")
                 .excludePathPatterns("/api/v1/admin/login");
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns(
+                        "/api/v1/point/earn",
+                        "/api/v2/point/use",
+                        "/api/v2/challenge/daily/finish",
+                        "/api/v2/challenge/daily/success");
     }
 }
\ No newline at end of file
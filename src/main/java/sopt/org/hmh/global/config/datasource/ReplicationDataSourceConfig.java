@@ -0,0 +1,85 @@
+package sopt.org.hmh.global.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 레플리카 주소가 설정된 경우에만 프라이머리와 레플리카 풀을 묶는 라우팅 데이터 소스를 등록합니다.
+ * 트랜잭션의 읽기 전용 여부가 정해진 뒤 커넥션을 고르도록 LazyConnectionDataSourceProxy로 감쌉니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class ReplicationDataSourceConfig {
+
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+    @Value("${datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+    @Value("${datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+    @Value("${datasource.replica.maximum-pool-size:10}")
+    private int replicaMaximumPoolSize;
+    @Value("${datasource.replica.fallback-to-primary:true}")
+    private boolean fallbackToPrimary;
+    @Value("${datasource.replica.primary-pin-seconds:5}")
+    private long primaryPinSeconds;
+    @Value("${datasource.replica.connection-timeout-millis:1000}")
+    private long replicaConnectionTimeoutMillis;
+    @Value("${datasource.replica.unhealthy-seconds:10}")
+    private long replicaUnhealthySeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicaDataSources = new ArrayList<>();
+        for (int index = 0; index < replicaUrls.size(); index++) {
+            replicaDataSources.add(this.createReplicaDataSource(index, replicaUrls.get(index), meterRegistry));
+        }
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSources,
+                fallbackToPrimary, Duration.ofSeconds(primaryPinSeconds), Duration.ofSeconds(replicaUnhealthySeconds));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    private HikariDataSource createReplicaDataSource(int index, String url, MeterRegistry meterRegistry) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName("replica-" + index);
+        hikariConfig.setJdbcUrl(url.trim());
+        hikariConfig.setUsername(replicaUsername);
+        hikariConfig.setPassword(replicaPassword);
+        hikariConfig.setMaximumPoolSize(replicaMaximumPoolSize);
+        hikariConfig.setReadOnly(true);
+        // 레플리카 장애 시 프라이머리로 빨리 넘어가도록 커넥션 대기 시간을 짧게 둡니다.
+        hikariConfig.setConnectionTimeout(replicaConnectionTimeoutMillis);
+        // 레플리카가 내려가 있어도 애플리케이션은 뜰 수 있도록 풀 초기화 시 연결 확인을 생략합니다.
+        hikariConfig.setInitializationFailTimeout(-1);
+        hikariConfig.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(hikariConfig);
+    }
+}
@@ -0,0 +1,131 @@
+package sopt.org.hmh.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 그 외에는 프라이머리로 커넥션을 라우팅합니다.
+ * 쓰기 트랜잭션을 커밋한 사용자는 복제 지연 동안 자신의 변경을 읽을 수 있도록 잠시 프라이머리에 고정합니다.
+ * 이 고정은 JVM마다 따로 관리되므로, 여러 인스턴스로 분산되는 환경에서는 다음 요청이 다른 인스턴스로 가면 보장되지 않습니다.
+ * 커넥션을 얻지 못한 레플리카는 잠시 비정상으로 표시해, 그동안은 커넥션 타임아웃을 기다리지 않고 건너뜁니다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final HikariDataSource primaryDataSource;
+    private final List<HikariDataSource> replicaDataSources;
+    private final boolean fallbackToPrimary;
+    private final Cache<Long, Boolean> primaryPinnedUsers;
+    private final Cache<String, Boolean> unhealthyReplicas;
+    private final AtomicInteger replicaIndex = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(HikariDataSource primaryDataSource, List<HikariDataSource> replicaDataSources,
+            boolean fallbackToPrimary, Duration primaryPinDuration, Duration unhealthyReplicaDuration) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSources = List.copyOf(replicaDataSources);
+        this.fallbackToPrimary = fallbackToPrimary;
+        this.primaryPinnedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(primaryPinDuration)
+                .build();
+        this.unhealthyReplicas = Caffeine.newBuilder()
+                .expireAfterWrite(unhealthyReplicaDuration)
+                .build();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!this.isReplicaRoutable()) {
+            return primaryDataSource.getConnection();
+        }
+
+        HikariDataSource replicaDataSource = this.nextHealthyReplicaDataSource();
+        if (replicaDataSource == null) {
+            if (!fallbackToPrimary) {
+                throw new SQLTransientConnectionException("No healthy replica is available");
+            }
+            return primaryDataSource.getConnection();
+        }
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException exception) {
+            unhealthyReplicas.put(replicaDataSource.getPoolName(), Boolean.TRUE);
+            if (!fallbackToPrimary) {
+                throw exception;
+            }
+            log.warn(">>> Replica {} unavailable, falling back to primary : {}",
+                    replicaDataSource.getPoolName(), exception.getMessage());
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primaryDataSource.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        replicaDataSources.forEach(HikariDataSource::close);
+    }
+
+    private boolean isReplicaRoutable() {
+        Long userId = this.getCurrentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            this.pinToPrimaryAfterWrite(userId);
+            return false;
+        }
+        if (replicaDataSources.isEmpty()) {
+            return false;
+        }
+        return userId == null || primaryPinnedUsers.getIfPresent(userId) == null;
+    }
+
+    private void pinToPrimaryAfterWrite(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            primaryPinnedUsers.put(userId, Boolean.TRUE);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                primaryPinnedUsers.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private HikariDataSource nextHealthyReplicaDataSource() {
+        int startIndex = replicaIndex.getAndIncrement();
+        for (int offset = 0; offset < replicaDataSources.size(); offset++) {
+            HikariDataSource replicaDataSource =
+                    replicaDataSources.get(Math.floorMod(startIndex + offset, replicaDataSources.size()));
+            if (unhealthyReplicas.getIfPresent(replicaDataSource.getPoolName()) == null) {
+                return replicaDataSource;
+            }
+        }
+        return null;
+    }
+
+    private Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
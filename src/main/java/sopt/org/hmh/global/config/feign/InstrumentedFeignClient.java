@@ -0,0 +1,53 @@
+package sopt.org.hmh.global.config.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 호출 지연 시간(히스토그램)과 진행 중인 요청 수를 클라이언트별로 기록하는 Feign Client
+ */
+public class InstrumentedFeignClient implements Client {
+
+    private static final String REQUEST_METRIC_NAME = "social.client.requests";
+    private static final String ACTIVE_REQUEST_METRIC_NAME = "social.client.requests.active";
+    private static final String IO_ERROR_STATUS = "IO_ERROR";
+
+    private final Client delegate;
+    private final MeterRegistry meterRegistry;
+    private final String clientName;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
+    public InstrumentedFeignClient(Client delegate, MeterRegistry meterRegistry, String clientName) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.clientName = clientName;
+        Gauge.builder(ACTIVE_REQUEST_METRIC_NAME, activeRequests, AtomicInteger::get)
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        activeRequests.incrementAndGet();
+        String status = IO_ERROR_STATUS;
+        try {
+            Response response = delegate.execute(request, options);
+            status = String.valueOf(response.status());
+            return response;
+        } finally {
+            activeRequests.decrementAndGet();
+            sample.stop(Timer.builder(REQUEST_METRIC_NAME)
+                    .tag("client", clientName)
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package sopt.org.hmh.global.config.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
+
+/**
+ * 소셜 플랫폼별 동시 호출 수를 제한(bulkhead)하고, 장애가 이어지면 회로를 열어 즉시 실패시키는 Feign Client
+ */
+public class ResilientFeignClient implements Client {
+
+    private static final String REJECTED_METRIC_NAME = "social.client.rejected";
+    private static final String CIRCUIT_STATE_METRIC_NAME = "social.client.circuit.open";
+    private static final int SERVER_ERROR_STATUS = 500;
+
+    private final Client delegate;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejectedCounter;
+    private final Counter circuitOpenRejectedCounter;
+
+    public ResilientFeignClient(Client delegate, Bulkhead bulkhead, CircuitBreaker circuitBreaker,
+            MeterRegistry meterRegistry, String clientName) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkheadRejectedCounter = Counter.builder(REJECTED_METRIC_NAME)
+                .tag("client", clientName)
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+        this.circuitOpenRejectedCounter = Counter.builder(REJECTED_METRIC_NAME)
+                .tag("client", clientName)
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        Gauge.builder(CIRCUIT_STATE_METRIC_NAME, circuitBreaker, ResilientFeignClient::isOpen)
+                .tag("client", clientName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        acquirePermissions();
+        long start = System.nanoTime();
+        try {
+            Response response = delegate.execute(request, options);
+            recordResult(response.status(), System.nanoTime() - start);
+            return response;
+        } catch (Throwable throwable) {
+            // Error 까지 결과로 기록해야 HALF_OPEN 상태에서 받은 허가가 반환되어 회로가 멈추지 않습니다.
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, throwable);
+            throw throwable;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private void acquirePermissions() {
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException exception) {
+            circuitOpenRejectedCounter.increment();
+            throw new JwtException(JwtError.SOCIAL_PLATFORM_UNAVAILABLE);
+        }
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException exception) {
+            circuitBreaker.releasePermission();
+            bulkheadRejectedCounter.increment();
+            throw new JwtException(JwtError.SOCIAL_PLATFORM_UNAVAILABLE);
+        }
+    }
+
+    private void recordResult(int status, long durationNanos) {
+        if (status >= SERVER_ERROR_STATUS) {
+            circuitBreaker.onError(durationNanos, TimeUnit.NANOSECONDS,
+                    new IOException("Social platform responded with status " + status));
+            return;
+        }
+        circuitBreaker.onSuccess(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static double isOpen(CircuitBreaker circuitBreaker) {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN ? 1 : 0;
+    }
+}
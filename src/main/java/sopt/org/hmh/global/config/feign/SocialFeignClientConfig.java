@@ -0,0 +1,107 @@
+package sopt.org.hmh.global.config.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 소셜 플랫폼 Feign 클라이언트 전용 설정입니다. (@FeignClient configuration 으로만 사용)
+ * 클라이언트 이름별로 커넥션 풀, 타임아웃, bulkhead, 서킷 브레이커, 메트릭이 분리되며 oauth2.http.{클라이언트 이름}.* 로 조정합니다.
+ */
+public class SocialFeignClientConfig {
+
+    private static final String PROPERTY_PREFIX = "oauth2.http.${spring.cloud.openfeign.client.name}";
+
+    @Value("${spring.cloud.openfeign.client.name}")
+    private String clientName;
+    @Value("${" + PROPERTY_PREFIX + ".connect-timeout-ms:1000}")
+    private long connectTimeoutMillis;
+    @Value("${" + PROPERTY_PREFIX + ".read-timeout-ms:3000}")
+    private long readTimeoutMillis;
+    @Value("${" + PROPERTY_PREFIX + ".max-connections:50}")
+    private int maxConnections;
+    @Value("${" + PROPERTY_PREFIX + ".connection-ttl-ms:300000}")
+    private long connectionTimeToLiveMillis;
+    @Value("${" + PROPERTY_PREFIX + ".idle-timeout-ms:30000}")
+    private long idleTimeoutMillis;
+    @Value("${" + PROPERTY_PREFIX + ".max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+    @Value("${" + PROPERTY_PREFIX + ".circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+    @Value("${" + PROPERTY_PREFIX + ".circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+    @Value("${" + PROPERTY_PREFIX + ".circuit-breaker.open-state-duration-ms:30000}")
+    private long openStateDurationMillis;
+
+    @Bean
+    public Request.Options socialRequestOptions() {
+        return new Request.Options(
+                connectTimeoutMillis, TimeUnit.MILLISECONDS,
+                readTimeoutMillis, TimeUnit.MILLISECONDS,
+                true);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient socialHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTimeToLiveMillis))
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeoutMillis))
+                .build();
+    }
+
+    @Bean
+    public Bulkhead socialBulkhead() {
+        return Bulkhead.of(clientName, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    @Bean
+    public CircuitBreaker socialCircuitBreaker() {
+        return CircuitBreaker.of(clientName, CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize / 2)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(readTimeoutMillis))
+                .slowCallRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openStateDurationMillis))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .build());
+    }
+
+    @Bean
+    public Client socialFeignClient(CloseableHttpClient socialHttpClient, Bulkhead socialBulkhead,
+            CircuitBreaker socialCircuitBreaker, MeterRegistry meterRegistry) {
+        Client instrumentedClient =
+                new InstrumentedFeignClient(new ApacheHttp5Client(socialHttpClient), meterRegistry, clientName);
+        return new ResilientFeignClient(
+                instrumentedClient, socialBulkhead, socialCircuitBreaker, meterRegistry, clientName);
+    }
+}
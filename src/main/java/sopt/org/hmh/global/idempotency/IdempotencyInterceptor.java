@@ -0,0 +1,91 @@
+package sopt.org.hmh.global.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+import sopt.org.hmh.global.common.constant.CustomHeaderType;
+import sopt.org.hmh.global.idempotency.exception.IdempotencyError;
+import sopt.org.hmh.global.idempotency.exception.IdempotencyException;
+
+/**
+ * 같은 Idempotency-Key로 재시도된 요청에는 저장된 응답을 그대로 돌려주고, 처음 요청이면 키를 선점한 뒤 처리합니다.
+ * 첫 요청이 처리 중이면 409를, 같은 키로 본문이 다른 요청이 오면 422를 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    static final String IDEMPOTENCY_STORE_KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".storeKey";
+    static final String IDEMPOTENCY_REQUEST_HASH_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".requestHash";
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        String idempotencyKey = request.getHeader(CustomHeaderType.IDEMPOTENCY_KEY);
+        if (!StringUtils.hasText(idempotencyKey) || HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        String storeKey = this.generateStoreKey(request, idempotencyKey);
+        String requestHash = this.hashRequestBody(request);
+        IdempotencyRecord storedRecord = idempotencyStore.reserve(storeKey, requestHash);
+        if (storedRecord == null) {
+            request.setAttribute(IDEMPOTENCY_STORE_KEY_ATTRIBUTE, storeKey);
+            request.setAttribute(IDEMPOTENCY_REQUEST_HASH_ATTRIBUTE, requestHash);
+            return true;
+        }
+        if (!storedRecord.requestHash().equals(requestHash)) {
+            throw new IdempotencyException(IdempotencyError.REQUEST_MISMATCH);
+        }
+        if (storedRecord.isPending()) {
+            throw new IdempotencyException(IdempotencyError.REQUEST_IN_PROGRESS);
+        }
+
+        IdempotentResponse storedResponse = storedRecord.response();
+        response.setStatus(storedResponse.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), storedResponse.body());
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+        // 성공 응답으로 바뀌지 않은 선점(실패 응답·예외)은 풀어 주어 같은 키로 다시 시도할 수 있게 합니다.
+        Object storeKey = request.getAttribute(IDEMPOTENCY_STORE_KEY_ATTRIBUTE);
+        if (storeKey != null) {
+            idempotencyStore.releaseIfPending((String) storeKey);
+        }
+    }
+
+    private String generateStoreKey(HttpServletRequest request, String idempotencyKey) {
+        // 다른 사용자의 키와 충돌하지 않도록 인증 주체와 요청 경로를 함께 키로 사용합니다.
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = (authentication == null) ? "" : String.valueOf(authentication.getPrincipal());
+        return principal + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+    }
+
+    private String hashRequestBody(HttpServletRequest request) {
+        CachedBodyHttpServletRequest cachedBodyRequest =
+                WebUtils.getNativeRequest(request, CachedBodyHttpServletRequest.class);
+        byte[] body = (cachedBodyRequest == null) ? EMPTY_BODY : cachedBodyRequest.getBody();
+        return DigestUtils.md5DigestAsHex(body);
+    }
+}
@@ -0,0 +1,18 @@
+package sopt.org.hmh.global.idempotency;
+
+/**
+ * 요청 본문 해시와 저장된 응답. response가 없으면 첫 요청이 아직 처리 중인 상태입니다.
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        IdempotentResponse response
+) {
+
+    public static IdempotencyRecord pending(String requestHash) {
+        return new IdempotencyRecord(requestHash, null);
+    }
+
+    public boolean isPending() {
+        return response == null;
+    }
+}
@@ -0,0 +1,31 @@
+package sopt.org.hmh.global.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sopt.org.hmh.global.common.constant.CustomHeaderType;
+
+/**
+ * Idempotency-Key가 붙은 요청은 {@link IdempotencyInterceptor}가 본문 해시를 구할 수 있도록 본문을 캐시합니다.
+ */
+@Component
+public class IdempotencyRequestBodyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !StringUtils.hasText(request.getHeader(CustomHeaderType.IDEMPOTENCY_KEY))
+                || HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(new CachedBodyHttpServletRequest(request), response);
+    }
+}
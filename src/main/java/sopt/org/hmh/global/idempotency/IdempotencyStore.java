@@ -0,0 +1,55 @@
+package sopt.org.hmh.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 별로 처리 중 표시와 최근 성공 응답을 보관하는 저장소. 시간과 개수 기준으로 제거되며 적중률을 메트릭으로 노출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyStore {
+
+    private static final String CACHE_NAME = "idempotency.responses";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+    @Value("${idempotency.maximum-size:10000}")
+    private long maximumSize;
+
+    private Cache<String, IdempotencyRecord> cache;
+
+    @PostConstruct
+    protected void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 키가 비어 있으면 처리 중으로 선점하고 null을, 이미 있으면 저장된 기록을 반환합니다.
+     */
+    public IdempotencyRecord reserve(String key, String requestHash) {
+        return cache.asMap().putIfAbsent(key, IdempotencyRecord.pending(requestHash));
+    }
+
+    public void save(String key, String requestHash, IdempotentResponse response) {
+        cache.put(key, new IdempotencyRecord(requestHash, response));
+    }
+
+    public void releaseIfPending(String key) {
+        cache.asMap().computeIfPresent(key, (storedKey, record) -> record.isPending() ? null : record);
+    }
+}
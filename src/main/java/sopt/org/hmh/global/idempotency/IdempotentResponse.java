@@ -0,0 +1,7 @@
+package sopt.org.hmh.global.idempotency;
+
+public record IdempotentResponse(
+        int status,
+        Object body
+) {
+}
@@ -0,0 +1,47 @@
+package sopt.org.hmh.global.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link IdempotencyInterceptor}가 표시한 요청의 성공 응답을 {@link IdempotencyStore}에 저장합니다.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class IdempotentResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final IdempotencyStore idempotencyStore;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse) {
+            HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+            Object storeKey = httpServletRequest.getAttribute(IdempotencyInterceptor.IDEMPOTENCY_STORE_KEY_ATTRIBUTE);
+            int status = servletResponse.getServletResponse().getStatus();
+            if (storeKey != null && HttpStatus.valueOf(status).is2xxSuccessful()) {
+                String requestHash = (String) httpServletRequest.getAttribute(
+                        IdempotencyInterceptor.IDEMPOTENCY_REQUEST_HASH_ATTRIBUTE);
+                idempotencyStore.save((String) storeKey, requestHash, new IdempotentResponse(status, body));
+            }
+        }
+        return body;
+    }
+}
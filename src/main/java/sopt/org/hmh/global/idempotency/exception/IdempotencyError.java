@@ -0,0 +1,31 @@
+package sopt.org.hmh.global.idempotency.exception;
+
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import sopt.org.hmh.global.common.exception.base.ErrorBase;
+
+@AllArgsConstructor
+public enum IdempotencyError implements ErrorBase {
+
+    REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청을 처리하고 있습니다."),
+    REQUEST_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    ;
+
+    private final HttpStatus status;
+    private final String errorMessage;
+
+    @Override
+    public int getHttpStatusCode() {
+        return status.value();
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return this.status;
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return this.errorMessage;
+    }
+}
@@ -0,0 +1,10 @@
+package sopt.org.hmh.global.idempotency.exception;
+
+import sopt.org.hmh.global.common.exception.base.ExceptionBase;
+
+public class IdempotencyException extends ExceptionBase {
+
+    public IdempotencyException(IdempotencyError error) {
+        super(error);
+    }
+}
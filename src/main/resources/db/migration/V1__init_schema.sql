@@ -0,0 +1,81 @@
+CREATE TABLE users
+(
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at           DATETIME(6),
+    updated_at           DATETIME(6),
+    name                 VARCHAR(255),
+    current_challenge_id BIGINT,
+    social_platform      ENUM ('KAKAO','APPLE') NOT NULL,
+    social_id            VARCHAR(255),
+    point                INTEGER      NOT NULL CHECK (point >= 0),
+    recent_lock_date     DATE,
+    is_deleted           BIT          NOT NULL,
+    deleted_at           DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_social_id UNIQUE (social_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE onboarding_info
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    average_use_time VARCHAR(255) NOT NULL,
+    user_id          BIGINT       NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE problem
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    onboarding_info_id BIGINT       NOT NULL,
+    problem            VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE challenge
+(
+    id         BIGINT  NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    user_id    BIGINT  NOT NULL,
+    period     INTEGER NOT NULL,
+    goal_time  BIGINT  NOT NULL,
+    start_date DATE    NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE challenge_app
+(
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    os           VARCHAR(255) NOT NULL,
+    app_code     VARCHAR(255) NOT NULL,
+    challenge_id BIGINT,
+    goal_time    BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_challenge_app_challenge FOREIGN KEY (challenge_id) REFERENCES challenge (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE daily_challenge
+(
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    challenge_id   BIGINT NOT NULL,
+    status         ENUM ('NONE','FAILURE','EARNED','UNEARNED') NOT NULL,
+    user_id        BIGINT NOT NULL,
+    goal_time      BIGINT NOT NULL,
+    challenge_date DATE   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_daily_challenge_challenge FOREIGN KEY (challenge_id) REFERENCES challenge (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE history_app
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    os                 VARCHAR(255) NOT NULL,
+    app_code           VARCHAR(255) NOT NULL,
+    daily_challenge_id BIGINT,
+    usage_time         BIGINT       NOT NULL,
+    goal_time          BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_history_app_daily_challenge FOREIGN KEY (daily_challenge_id) REFERENCES daily_challenge (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS revoked_token
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    token_id   VARCHAR(255) NOT NULL,
+    expires_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_revoked_token_token_id UNIQUE (token_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS batch_job_checkpoint
+(
+    job_name          VARCHAR(255) NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    last_processed_id BIGINT       NOT NULL,
+    is_running        BIT          NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS job_lease
+(
+    job_name     VARCHAR(255) NOT NULL,
+    holder       VARCHAR(255) NOT NULL,
+    leased_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE = InnoDB;
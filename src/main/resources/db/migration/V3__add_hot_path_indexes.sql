@@ -0,0 +1,22 @@
+-- DailyChallengeJpaRepository.findByChallengeDateAndUserId, DailyChallengeRepositoryImpl.existsByUserIdAndChallengeDateIn
+CREATE INDEX idx_daily_challenge_user_id_challenge_date ON daily_challenge (user_id, challenge_date);
+
+-- 챌린지별 일자 조회와 정렬된 상태 목록 프로젝션 (covering)
+CREATE INDEX idx_daily_challenge_challenge_id_challenge_date_status ON daily_challenge (challenge_id, challenge_date, status);
+
+-- ChallengeAppJpaRepository.findFirstByChallengeIdAndAppCodeAndOs, existsByChallengeIdAndAppCodeAndOs
+CREATE INDEX idx_challenge_app_challenge_id_app_code_os ON challenge_app (challenge_id, app_code, os);
+
+-- UserRepository.findBySocialPlatformAndSocialId, existsBySocialPlatformAndSocialId
+CREATE INDEX idx_users_social_platform_social_id ON users (social_platform, social_id);
+
+-- UserRepository.findExpiredUserIdsAfter (만료 회원 정리)
+CREATE INDEX idx_users_is_deleted_deleted_at ON users (is_deleted, deleted_at);
+
+-- 만료 회원 정리 시 사용자 기준 벌크 삭제
+CREATE INDEX idx_challenge_user_id ON challenge (user_id);
+CREATE INDEX idx_onboarding_info_user_id ON onboarding_info (user_id);
+CREATE INDEX idx_problem_onboarding_info_id ON problem (onboarding_info_id);
+
+-- TokenRevocationService 만료 행 정리
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,114 @@
+package sopt.org.hmh.domain.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sopt.org.hmh.domain.app.domain.ChallengeApp;
+import sopt.org.hmh.domain.app.domain.exception.AppError;
+import sopt.org.hmh.domain.app.domain.exception.AppException;
+import sopt.org.hmh.domain.app.dto.response.DuplicatedAppResponse;
+import sopt.org.hmh.domain.app.repository.challenge_app.ChallengeAppRepository;
+import sopt.org.hmh.domain.challenge.domain.Challenge;
+
+@ExtendWith(MockitoExtension.class)
+class ChallengeAppServiceTest {
+
+    private static final Long CHALLENGE_ID = 1L;
+    private static final String ANDROID = "android";
+    private static final String IOS = "ios";
+
+    @Mock
+    private ChallengeAppRepository challengeAppRepository;
+    @InjectMocks
+    private ChallengeAppService challengeAppService;
+
+    private Challenge challenge;
+
+    @BeforeEach
+    void setUp() {
+        this.challenge = Challenge.builder()
+                .userId(1L)
+                .period(7)
+                .goalTime(3_600_000L)
+                .startDate(LocalDate.now())
+                .build();
+        ReflectionTestUtils.setField(challenge, "id", CHALLENGE_ID);
+    }
+
+    @Test
+    @DisplayName("이미 등록된 앱이 있으면 저장하지 않고, 중복된 앱 코드와 OS를 에러 데이터로 돌려준다")
+    void rejectsDuplicatedAppsWithConflictingPairs() {
+        when(challengeAppRepository.findAllByChallengeIdAndAppCodeIn(eq(CHALLENGE_ID), anyCollection()))
+                .thenReturn(List.of(this.createApp("com.hmh.a", ANDROID), this.createApp("com.hmh.b", IOS)));
+        List<ChallengeApp> newApps = List.of(
+                this.createApp("com.hmh.a", ANDROID),
+                this.createApp("com.hmh.b", ANDROID),
+                this.createApp("com.hmh.c", ANDROID));
+
+        assertThatThrownBy(() -> challengeAppService.addApps(newApps))
+                .isInstanceOfSatisfying(AppException.class, exception -> {
+                    assertThat(exception.getError()).isEqualTo(AppError.APP_EXIST_ALREADY);
+                    assertThat(exception.getData()).isEqualTo(List.of(new DuplicatedAppResponse("com.hmh.a", ANDROID)));
+                });
+        verify(challengeAppRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("앱 코드가 같아도 OS가 다르면 중복이 아니므로 저장한다")
+    void savesSameAppCodeForDifferentOs() {
+        when(challengeAppRepository.findAllByChallengeIdAndAppCodeIn(eq(CHALLENGE_ID), anyCollection()))
+                .thenReturn(List.of(this.createApp("com.hmh.a", IOS)));
+        List<ChallengeApp> newApps = List.of(this.createApp("com.hmh.a", ANDROID));
+
+        challengeAppService.addApps(newApps);
+
+        verify(challengeAppRepository).saveAll(newApps);
+    }
+
+    @ParameterizedTest(name = "앱 {0}개")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("추가하는 앱 개수와 관계없이 기존 앱은 한 번에 조회한다")
+    void looksUpExistingAppsOnce(int appCount) {
+        when(challengeAppRepository.findAllByChallengeIdAndAppCodeIn(eq(CHALLENGE_ID), anyCollection()))
+                .thenReturn(List.of());
+        List<ChallengeApp> newApps = IntStream.range(0, appCount)
+                .mapToObj(i -> this.createApp("com.hmh.app" + i, ANDROID))
+                .toList();
+
+        challengeAppService.addApps(newApps);
+
+        verify(challengeAppRepository, times(1)).findAllByChallengeIdAndAppCodeIn(
+                eq(CHALLENGE_ID), argThat(appCodes -> appCodes.size() == appCount));
+        verify(challengeAppRepository).saveAll(newApps);
+    }
+
+    private ChallengeApp createApp(String appCode, String os) {
+        return ChallengeApp.builder()
+                .challenge(challenge)
+                .appCode(appCode)
+                .goalTime(1_800_000L)
+                .os(os)
+                .build();
+    }
+}
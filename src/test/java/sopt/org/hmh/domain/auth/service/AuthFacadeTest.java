@@ -0,0 +1,117 @@
+package sopt.org.hmh.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.auth.dto.response.LoginResponse;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.social.SocialPlatform;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.global.auth.social.kakao.fegin.KakaoLoginService;
+import sopt.org.hmh.support.JpaSliceTest;
+
+/**
+ * 응답이 느린 소셜 플랫폼 스텁과 작은 커넥션 풀로, 소셜 인증이 DB 커넥션 밖에서 진행되는지 검증합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuthFacadeTest {
+
+    private static final String SOCIAL_ID_PREFIX = "auth-facade-";
+    private static final int CONCURRENT_LOGINS = 8;
+
+    @Autowired
+    private AuthFacade authFacade;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private KakaoLoginService kakaoLoginService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int maximumPoolSize;
+
+    @AfterEach
+    void tearDown() {
+        reset(kakaoLoginService);
+        jdbcTemplate.update("DELETE FROM users WHERE social_id LIKE ?", SOCIAL_ID_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("소셜 플랫폼 응답을 기다리는 동안 커넥션을 잡지 않아 풀 크기보다 많은 로그인이 동시에 진행된다")
+    void waitsForSocialPlatformWithoutHoldingConnection() throws Exception {
+        assertThat(CONCURRENT_LOGINS).isGreaterThan(maximumPoolSize);
+        List<Long> userIds = this.createUsers(CONCURRENT_LOGINS);
+
+        CountDownLatch allWaiting = new CountDownLatch(CONCURRENT_LOGINS);
+        AtomicInteger waitedTogether = new AtomicInteger();
+        AtomicBoolean transactionActive = new AtomicBoolean();
+        when(kakaoLoginService.getSocialUserInfoByKakao(anyString())).thenAnswer(invocation -> {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                transactionActive.set(true);
+            }
+            // 커넥션을 잡은 채로 기다린다면 풀 크기만큼만 여기에 모일 수 있습니다.
+            allWaiting.countDown();
+            if (allWaiting.await(5, TimeUnit.SECONDS)) {
+                waitedTogether.incrementAndGet();
+            }
+            return SocialUserInfo.ofKakao(invocation.getArgument(0), "nickname");
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        try {
+            List<Future<LoginResponse>> logins = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                String socialId = SOCIAL_ID_PREFIX + i;
+                logins.add(executorService.submit(() -> authFacade.login(socialId, SocialPlatform.KAKAO)));
+            }
+
+            List<Long> loggedInUserIds = new ArrayList<>();
+            for (Future<LoginResponse> login : logins) {
+                loggedInUserIds.add(login.get(30, TimeUnit.SECONDS).userId());
+            }
+            assertThat(loggedInUserIds).containsExactlyElementsOf(userIds);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(waitedTogether.get()).isEqualTo(CONCURRENT_LOGINS);
+        assertThat(transactionActive.get()).isFalse();
+    }
+
+    private List<Long> createUsers(int count) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String socialId = SOCIAL_ID_PREFIX + i;
+            userIds.add(transactionTemplate.execute(
+                    status -> userService.addUser(SocialPlatform.KAKAO, socialId, "user").getId()));
+        }
+        return userIds;
+    }
+}
@@ -0,0 +1,122 @@
+package sopt.org.hmh.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.challenge.service.ChallengeService;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.support.JpaSliceTest;
+import sopt.org.hmh.support.RequestContextExtension;
+import sopt.org.hmh.support.SignUpRequestFixture;
+import sopt.org.hmh.support.StatementRecorder;
+
+@JpaSliceTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("회원가입은 문제, 일별 챌린지, 챌린지 앱을 테이블마다 INSERT 한 번으로 저장한다")
+    void signupInsertsEachBulkTableOnce() {
+        statementRecorder.clear();
+        Long userId = this.signup("auth-service-bulk", 30, 10);
+
+        assertThat(statementRecorder.countInsertsInto("problem")).isEqualTo(1);
+        assertThat(statementRecorder.countInsertsInto("daily_challenge")).isEqualTo(1);
+        assertThat(statementRecorder.countInsertsInto("challenge_app")).isEqualTo(1);
+
+        Long challengeId = jdbcTemplate.queryForObject(
+                "SELECT current_challenge_id FROM users WHERE id = ?", Long.class, userId);
+        assertThat(this.countRows("SELECT COUNT(*) FROM problem p JOIN onboarding_info o "
+                + "ON p.onboarding_info_id = o.id WHERE o.user_id = ?", userId))
+                .isEqualTo(SignUpRequestFixture.PROBLEMS.size());
+        assertThat(this.countRows("SELECT COUNT(*) FROM daily_challenge WHERE challenge_id = ?", challengeId))
+                .isEqualTo(30);
+        assertThat(this.countRows("SELECT COUNT(*) FROM challenge_app WHERE challenge_id = ?", challengeId))
+                .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("회원가입 SQL 수는 챌린지 기간과 앱 개수에 따라 늘지 않는다")
+    void signupStatementCountDoesNotGrowWithPayload() {
+        statementRecorder.clear();
+        this.signup("auth-service-small", 7, 1);
+        int smallSignupStatements = statementRecorder.getStatements().size();
+
+        statementRecorder.clear();
+        this.signup("auth-service-large", 30, 10);
+        int largeSignupStatements = statementRecorder.getStatements().size();
+
+        assertThat(largeSignupStatements).isEqualTo(smallSignupStatements);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("탈퇴 유예 중인 사용자가 다시 로그인하면 탈퇴 상태가 해제되어 저장된다")
+    void loginRecoversWithdrawnUser() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Long userId = transactionTemplate.execute(status -> this.signup("auth-service-recover", 7, 1));
+        try {
+            transactionTemplate.executeWithoutResult(status -> userService.withdraw(userId));
+            assertThat(this.isDeleted(userId)).isTrue();
+
+            RequestContextExtension.startNewRequest();
+            authService.login(SocialUserInfo.ofKakao("auth-service-recover", "new-nickname"));
+
+            assertThat(this.isDeleted(userId)).isFalse();
+            assertThat(jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class, userId))
+                    .isEqualTo("new-nickname");
+        } finally {
+            transactionTemplate.executeWithoutResult(status -> {
+                challengeService.deleteChallengeRelatedByUserIds(List.of(userId));
+                userService.deleteUsersByIds(List.of(userId));
+            });
+            entityManagerFactory.getCache().evictAll();
+        }
+    }
+
+    private Long signup(String socialId, int period, int appCount) {
+        RequestContextExtension.startNewRequest();
+        Long userId = authService.signup(
+                SignUpRequestFixture.create(period, SignUpRequestFixture.appCodes(appCount)),
+                SocialUserInfo.ofKakao(socialId, "nickname"),
+                SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE
+        ).userId();
+        entityManager.flush();
+        return userId;
+    }
+
+    private boolean isDeleted(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT is_deleted FROM users WHERE id = ?", Boolean.class, userId);
+    }
+
+    private Integer countRows(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, id);
+    }
+}
@@ -0,0 +1,252 @@
+package sopt.org.hmh.domain.challenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.app.domain.ChallengeApp;
+import sopt.org.hmh.domain.auth.service.AuthService;
+import sopt.org.hmh.domain.challenge.domain.Challenge;
+import sopt.org.hmh.domain.challenge.dto.request.ChallengeRequest;
+import sopt.org.hmh.domain.challenge.dto.request.NewChallengeOrder;
+import sopt.org.hmh.domain.challenge.dto.response.ChallengeResponse;
+import sopt.org.hmh.domain.challenge.dto.response.DailyChallengeResponse;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.support.JpaSliceTest;
+import sopt.org.hmh.support.RequestContextExtension;
+import sopt.org.hmh.support.SignUpRequestFixture;
+import sopt.org.hmh.support.StatementRecorder;
+
+@JpaSliceTest
+class ChallengeFacadeTest {
+
+    private static final int PERIOD = 7;
+    private static final String CHALLENGE_APPS_ROLE = Challenge.class.getName() + ".apps";
+    private static final List<String> APP_CODES = SignUpRequestFixture.appCodes(3);
+
+    @Autowired
+    private ChallengeFacade challengeFacade;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> committedUserIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (committedUserIds.isEmpty()) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            challengeService.deleteChallengeRelatedByUserIds(committedUserIds);
+            userService.deleteUsersByIds(committedUserIds);
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @ParameterizedTest(name = "앱 {0}개")
+    @ValueSource(ints = {1, 10, 50})
+    @DisplayName("앱 추가는 앱 개수와 관계없이 기존 앱 조회 한 번과 INSERT 한 번으로 끝난다")
+    void addsAppsWithSingleLookupAndInsert(int appCount) {
+        Long userId = this.signup("challenge-facade-apps", List.of());
+        this.startNewRequest();
+
+        challengeFacade.addAppsToCurrentChallenge(userId,
+                SignUpRequestFixture.challengeApps(SignUpRequestFixture.appCodes(appCount)), SignUpRequestFixture.OS);
+
+        assertThat(statementRecorder.countSelectsFrom("challenge_app")).isEqualTo(1);
+        assertThat(statementRecorder.countInsertsInto("challenge_app")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM challenge_app a JOIN challenge c "
+                + "ON a.challenge_id = c.id WHERE c.user_id = ?", Integer.class, userId)).isEqualTo(appCount);
+    }
+
+    @Test
+    @DisplayName("현재 챌린지 조회는 챌린지 엔티티를 읽지 않고 아이디, 챌린지, 상태, 앱 프로젝션 네 번으로 끝난다")
+    void readsCurrentChallengeInfoWithProjections() {
+        Long userId = this.signup("challenge-facade-info", APP_CODES);
+        this.startNewRequest();
+
+        ChallengeResponse response = challengeFacade.getCurrentChallengeInfo(userId, SignUpRequestFixture.TIME_ZONE);
+
+        assertThat(statementRecorder.countSelects()).isEqualTo(4);
+        assertThat(response.statuses()).hasSize(PERIOD);
+        assertThat(response.apps()).hasSize(APP_CODES.size());
+    }
+
+    @Test
+    @DisplayName("오늘의 챌린지 조회는 아이디, 오늘 상태, 앱 프로젝션 세 번으로 끝난다")
+    void readsDailyChallengeInfoWithProjections() {
+        Long userId = this.signup("challenge-facade-daily", APP_CODES);
+        this.startNewRequest();
+
+        DailyChallengeResponse response =
+                challengeFacade.getDailyChallengeInfo(userId, SignUpRequestFixture.TIME_ZONE);
+
+        assertThat(statementRecorder.countSelects()).isEqualTo(3);
+        assertThat(response.apps()).hasSize(APP_CODES.size());
+    }
+
+    @Test
+    @DisplayName("새 챌린지는 이전 챌린지의 앱을 한 번 읽어 한 번의 INSERT로 복사한다")
+    void copiesAppsFromPreviousChallenge() {
+        Long userId = this.signup("challenge-facade-next", APP_CODES);
+        entityManager.flush();
+        Long previousChallengeId = this.getCurrentChallengeId(userId);
+        // 이전 챌린지 기간이 끝난 상황을 만들기 위해 일별 챌린지 날짜를 기간만큼 앞당깁니다.
+        jdbcTemplate.update("UPDATE daily_challenge SET challenge_date = DATEADD(DAY, ?, challenge_date) "
+                + "WHERE challenge_id = ?", -PERIOD, previousChallengeId);
+        this.startNewRequest();
+
+        challengeFacade.startNewChallenge(NewChallengeOrder.createNextChallengeOrder(
+                new ChallengeRequest(PERIOD, SignUpRequestFixture.CHALLENGE_GOAL_TIME),
+                userId, SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE));
+        entityManager.flush();
+
+        assertThat(statementRecorder.countSelectsFrom("challenge_app")).isEqualTo(2);
+        assertThat(statementRecorder.countInsertsInto("challenge_app")).isEqualTo(1);
+
+        Long newChallengeId = this.getCurrentChallengeId(userId);
+        assertThat(newChallengeId).isNotEqualTo(previousChallengeId);
+        assertThat(jdbcTemplate.queryForList("SELECT app_code FROM challenge_app WHERE challenge_id = ? "
+                + "ORDER BY app_code", String.class, newChallengeId)).isEqualTo(APP_CODES);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("현재 챌린지 엔티티는 2차 캐시에서 읽어, 캐시가 채워진 뒤에는 challenge 테이블을 조회하지 않는다")
+    void readsCurrentChallengeFromSecondLevelCache() {
+        Long userId = this.signupAndCommit("challenge-facade-cache");
+        RequestContextExtension.startNewRequest();
+        challengeFacade.findCurrentChallengeByUserId(userId);
+
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+        Challenge challenge = challengeFacade.findCurrentChallengeByUserId(userId);
+
+        assertThat(challenge.getPeriod()).isEqualTo(PERIOD);
+        assertThat(statementRecorder.countSelectsFrom("challenge")).isZero();
+        assertThat(statementRecorder.countSelects()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("앱 추가와 삭제는 캐시된 챌린지를 사용해 challenge 테이블을 조회하지 않는다")
+    void addsAndRemovesAppsWithCachedChallenge() {
+        Long userId = this.signupAndCommit("challenge-facade-cache-apps");
+        RequestContextExtension.startNewRequest();
+        challengeFacade.findCurrentChallengeByUserId(userId);
+
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+        challengeFacade.addAppsToCurrentChallenge(userId,
+                SignUpRequestFixture.challengeApps(List.of("com.hmh.new")), SignUpRequestFixture.OS);
+
+        assertThat(statementRecorder.countSelectsFrom("challenge")).isZero();
+        assertThat(statementRecorder.countSelects()).isEqualTo(2);
+
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+        challengeFacade.removeAppFromCurrentChallenge(userId, "com.hmh.new", SignUpRequestFixture.OS);
+
+        assertThat(statementRecorder.countSelectsFrom("challenge")).isZero();
+        assertThat(statementRecorder.countSelects()).isEqualTo(1);
+        assertThat(statementRecorder.countDeletes()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("앱을 추가하거나 삭제하면 캐시된 챌린지 앱 목록이 무효화되어 바뀐 목록을 읽는다")
+    void invalidatesCachedAppsOnAddAndRemove() {
+        Long userId = this.signupAndCommit("challenge-facade-cache-invalidation");
+        Long challengeId = this.getCurrentChallengeId(userId);
+        assertThat(this.readCachedAppCodes(challengeId)).isEqualTo(APP_CODES);
+        assertThat(entityManagerFactory.getCache().unwrap(Cache.class)
+                .containsCollection(CHALLENGE_APPS_ROLE, challengeId)).isTrue();
+
+        RequestContextExtension.startNewRequest();
+        challengeFacade.addAppsToCurrentChallenge(userId,
+                SignUpRequestFixture.challengeApps(List.of("com.hmh.new")), SignUpRequestFixture.OS);
+
+        List<String> addedAppCodes = new ArrayList<>(APP_CODES);
+        addedAppCodes.add("com.hmh.new");
+        assertThat(this.readAppCodesWithFetchJoin(challengeId)).isEqualTo(addedAppCodes);
+        assertThat(this.readCachedAppCodes(challengeId)).isEqualTo(addedAppCodes);
+
+        RequestContextExtension.startNewRequest();
+        challengeFacade.removeAppFromCurrentChallenge(userId, "com.hmh.new", SignUpRequestFixture.OS);
+
+        assertThat(this.readAppCodesWithFetchJoin(challengeId)).isEqualTo(APP_CODES);
+        assertThat(this.readCachedAppCodes(challengeId)).isEqualTo(APP_CODES);
+    }
+
+    private Long signup(String socialId, List<String> appCodes) {
+        return authService.signup(
+                SignUpRequestFixture.create(PERIOD, appCodes),
+                SocialUserInfo.ofKakao(socialId, "nickname"),
+                SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE
+        ).userId();
+    }
+
+    private Long signupAndCommit(String socialId) {
+        Long userId = new TransactionTemplate(transactionManager).execute(status -> this.signup(socialId, APP_CODES));
+        committedUserIds.add(userId);
+        return userId;
+    }
+
+    private List<String> readAppCodesWithFetchJoin(Long challengeId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                this.toSortedAppCodes(challengeService.findByIdWithAppsOrElseThrow(challengeId).getApps()));
+    }
+
+    // 챌린지 엔티티를 읽은 뒤 지연 로딩해 Challenge.apps 컬렉션 캐시를 거쳐 읽습니다.
+    private List<String> readCachedAppCodes(Long challengeId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                this.toSortedAppCodes(challengeService.findByIdOrElseThrow(challengeId).getApps()));
+    }
+
+    private List<String> toSortedAppCodes(List<ChallengeApp> challengeApps) {
+        return challengeApps.stream()
+                .map(ChallengeApp::getAppCode)
+                .sorted()
+                .toList();
+    }
+
+    private Long getCurrentChallengeId(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT current_challenge_id FROM users WHERE id = ?", Long.class, userId);
+    }
+
+    private void startNewRequest() {
+        entityManager.flush();
+        entityManager.clear();
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+    }
+}
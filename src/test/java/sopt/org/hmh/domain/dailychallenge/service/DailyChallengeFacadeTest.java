@@ -0,0 +1,118 @@
+package sopt.org.hmh.domain.dailychallenge.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sopt.org.hmh.domain.app.dto.request.HistoryAppRequest;
+import sopt.org.hmh.domain.auth.service.AuthService;
+import sopt.org.hmh.domain.dailychallenge.domain.Status;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeListRequest;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeRequest;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeStatusListRequest;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeStatusRequest;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.support.JpaSliceTest;
+import sopt.org.hmh.support.RequestContextExtension;
+import sopt.org.hmh.support.SignUpRequestFixture;
+import sopt.org.hmh.support.StatementRecorder;
+
+@JpaSliceTest
+class DailyChallengeFacadeTest {
+
+    private static final int PERIOD = 7;
+    private static final List<String> APP_CODES = SignUpRequestFixture.appCodes(3);
+
+    @Autowired
+    private DailyChallengeFacade dailyChallengeFacade;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        this.userId = authService.signup(
+                SignUpRequestFixture.create(PERIOD, APP_CODES),
+                SocialUserInfo.ofKakao("daily-challenge-facade", "nickname"),
+                SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE
+        ).userId();
+        this.startNewRequest();
+    }
+
+    @Test
+    @DisplayName("완료한 일별 챌린지의 앱 사용 기록은 앱 개수와 관계없이 하루에 INSERT 한 번으로 저장한다")
+    void insertsHistoryAppsOncePerFinishedDay() {
+        dailyChallengeFacade.addFinishedDailyChallengeHistory(
+                userId, finishedDailyChallenges(List.of(0, 1, 2)), SignUpRequestFixture.OS);
+        entityManager.flush();
+
+        assertThat(statementRecorder.countInsertsInto("history_app")).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM history_app h JOIN daily_challenge d "
+                + "ON h.daily_challenge_id = d.id WHERE d.user_id = ?", Integer.class, userId))
+                .isEqualTo(3 * APP_CODES.size());
+    }
+
+    @Test
+    @DisplayName("완료 기록 업로드는 완료한 일 수와 관계없이 조회 쿼리 세 번으로 챌린지와 앱, 일별 챌린지를 읽는다")
+    void readsChallengeWithFixedSelectsWhenAddingHistory() {
+        dailyChallengeFacade.addFinishedDailyChallengeHistory(
+                userId, finishedDailyChallenges(List.of(0)), SignUpRequestFixture.OS);
+        long singleDaySelects = statementRecorder.countSelects();
+
+        this.startNewRequest();
+        List<Status> statuses = dailyChallengeFacade.addFinishedDailyChallengeHistory(
+                userId, finishedDailyChallenges(List.of(1, 2, 3, 4)), SignUpRequestFixture.OS);
+
+        assertThat(statementRecorder.countSelects()).isEqualTo(singleDaySelects).isEqualTo(3);
+        assertThat(statuses).hasSize(PERIOD);
+    }
+
+    @Test
+    @DisplayName("성공 여부 변경은 변경한 일 수와 관계없이 조회 쿼리 두 번으로 챌린지와 일별 챌린지를 읽는다")
+    void readsChallengeWithFixedSelectsWhenChangingStatus() {
+        dailyChallengeFacade.changeDailyChallengeStatusByIsSuccess(userId, finishedDailyChallengeStatuses(List.of(0)));
+        long singleDaySelects = statementRecorder.countSelects();
+
+        this.startNewRequest();
+        List<Status> statuses = dailyChallengeFacade.changeDailyChallengeStatusByIsSuccess(
+                userId, finishedDailyChallengeStatuses(List.of(1, 2, 3, 4)));
+
+        assertThat(statementRecorder.countSelects()).isEqualTo(singleDaySelects).isEqualTo(2);
+        assertThat(statuses).hasSize(PERIOD);
+    }
+
+    private void startNewRequest() {
+        entityManager.flush();
+        entityManager.clear();
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+    }
+
+    private static FinishedDailyChallengeStatusListRequest finishedDailyChallengeStatuses(
+            List<Integer> challengePeriodIndexes) {
+        return new FinishedDailyChallengeStatusListRequest(challengePeriodIndexes.stream()
+                .map(challengePeriodIndex -> new FinishedDailyChallengeStatusRequest(challengePeriodIndex, true))
+                .toList());
+    }
+
+    private static FinishedDailyChallengeListRequest finishedDailyChallenges(List<Integer> challengePeriodIndexes) {
+        List<HistoryAppRequest> apps = APP_CODES.stream()
+                .map(appCode -> new HistoryAppRequest(appCode, 600_000L))
+                .toList();
+        return new FinishedDailyChallengeListRequest(challengePeriodIndexes.stream()
+                .map(challengePeriodIndex -> new FinishedDailyChallengeRequest(challengePeriodIndex, apps))
+                .toList());
+    }
+}
@@ -0,0 +1,77 @@
+package sopt.org.hmh.domain.point.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.auth.service.AuthService;
+import sopt.org.hmh.domain.challenge.service.ChallengeService;
+import sopt.org.hmh.domain.point.dto.response.ChallengePointStatusListResponse;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.support.JpaSliceTest;
+import sopt.org.hmh.support.RequestContextExtension;
+import sopt.org.hmh.support.SignUpRequestFixture;
+import sopt.org.hmh.support.StatementRecorder;
+
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointFacadeTest {
+
+    private static final int PERIOD = 7;
+
+    @Autowired
+    private PointFacade pointFacade;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private ChallengeService challengeService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            challengeService.deleteChallengeRelatedByUserIds(List.of(userId));
+            userService.deleteUsersByIds(List.of(userId));
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("포인트 현황 조회는 2차 캐시의 챌린지를 사용해 사용자와 일별 상태만 조회한다")
+    void readsPointStatusesWithCachedChallenge() {
+        this.userId = new TransactionTemplate(transactionManager).execute(status -> authService.signup(
+                SignUpRequestFixture.create(PERIOD, SignUpRequestFixture.appCodes(3)),
+                SocialUserInfo.ofKakao("point-facade-cache", "nickname"),
+                SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE
+        ).userId());
+        RequestContextExtension.startNewRequest();
+        pointFacade.getChallengePointStatusList(userId);
+
+        RequestContextExtension.startNewRequest();
+        statementRecorder.clear();
+        ChallengePointStatusListResponse response = pointFacade.getChallengePointStatusList(userId);
+
+        assertThat(statementRecorder.countSelectsFrom("challenge")).isZero();
+        assertThat(statementRecorder.countSelects()).isEqualTo(2);
+        assertThat(response.period()).isEqualTo(PERIOD);
+        assertThat(response.challengePointStatuses()).hasSize(PERIOD);
+    }
+}
@@ -0,0 +1,139 @@
+package sopt.org.hmh.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.app.dto.request.HistoryAppRequest;
+import sopt.org.hmh.domain.auth.service.AuthService;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeListRequest;
+import sopt.org.hmh.domain.dailychallenge.dto.request.FinishedDailyChallengeRequest;
+import sopt.org.hmh.domain.dailychallenge.service.DailyChallengeFacade;
+import sopt.org.hmh.global.auth.social.SocialUserInfo;
+import sopt.org.hmh.global.batch.service.ChunkedJobRunner;
+import sopt.org.hmh.support.JpaSliceTest;
+import sopt.org.hmh.support.RequestContextExtension;
+import sopt.org.hmh.support.SignUpRequestFixture;
+import sopt.org.hmh.support.StatementRecorder;
+
+/**
+ * 회원가입과 챌린지 기록으로 관련 데이터를 만든 뒤, 청크 크기 2로 만료 회원 정리 작업을 실행합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExpiredUserPurgeJobTest {
+
+    private static final int EXPIRED_USERS = 5;
+    private static final int CHUNK_SIZE = 2;
+    private static final int DELETE_STATEMENTS_PER_CHUNK = 7;
+    private static final List<String> APP_CODES = SignUpRequestFixture.appCodes(2);
+
+    @Autowired
+    private ChunkedJobRunner chunkedJobRunner;
+    @Autowired
+    private ExpiredUserPurgeJob expiredUserPurgeJob;
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private DailyChallengeFacade dailyChallengeFacade;
+    @Autowired
+    private StatementRecorder statementRecorder;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        List.of("history_app", "daily_challenge", "challenge_app", "challenge", "problem", "onboarding_info",
+                "users", "batch_job_checkpoint").forEach(table -> jdbcTemplate.update("DELETE FROM " + table));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 회원의 데이터만 청크마다 테이블별 벌크 삭제로 지운다")
+    void purgesOnlyExpiredUsers() {
+        List<Long> expiredUserIds = IntStream.range(0, EXPIRED_USERS)
+                .mapToObj(i -> this.seedUser("purge-expired-" + i))
+                .toList();
+        Long withdrawnUserId = this.seedUser("purge-withdrawn");
+        Long activeUserId = this.seedUser("purge-active");
+        long activeUserRows = this.countUserRows(activeUserId);
+
+        expiredUserIds.forEach(userId -> this.withdraw(userId, LocalDateTime.now().minusDays(1)));
+        this.withdraw(withdrawnUserId, LocalDateTime.now().plusDays(30));
+        long expiredRows = expiredUserIds.stream().mapToLong(this::countUserRows).sum();
+
+        statementRecorder.clear();
+        long processedRows = chunkedJobRunner.run(expiredUserPurgeJob);
+
+        assertThat(processedRows).isEqualTo(expiredRows);
+        expiredUserIds.forEach(userId -> assertThat(this.countUserRows(userId)).isZero());
+        assertThat(this.countUserRows(withdrawnUserId)).isEqualTo(activeUserRows);
+        assertThat(this.countUserRows(activeUserId)).isEqualTo(activeUserRows);
+
+        int chunks = (EXPIRED_USERS + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        assertThat(statementRecorder.countDeletes()).isEqualTo((long) chunks * DELETE_STATEMENTS_PER_CHUNK);
+
+        Map<String, Object> checkpoint = jdbcTemplate.queryForMap(
+                "SELECT last_processed_id, is_running FROM batch_job_checkpoint WHERE job_name = ?",
+                expiredUserPurgeJob.getName());
+        assertThat(((Number) checkpoint.get("last_processed_id")).longValue()).isZero();
+        assertThat(checkpoint.get("is_running")).isEqualTo(false);
+    }
+
+    private Long seedUser(String socialId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        RequestContextExtension.startNewRequest();
+        Long userId = transactionTemplate.execute(status -> authService.signup(
+                SignUpRequestFixture.create(7, APP_CODES),
+                SocialUserInfo.ofKakao(socialId, "nickname"),
+                SignUpRequestFixture.OS, SignUpRequestFixture.TIME_ZONE
+        ).userId());
+
+        RequestContextExtension.startNewRequest();
+        List<HistoryAppRequest> apps = APP_CODES.stream()
+                .map(appCode -> new HistoryAppRequest(appCode, 600_000L))
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> dailyChallengeFacade.addFinishedDailyChallengeHistory(
+                userId,
+                new FinishedDailyChallengeListRequest(List.of(new FinishedDailyChallengeRequest(0, apps))),
+                SignUpRequestFixture.OS));
+        return userId;
+    }
+
+    private void withdraw(Long userId, LocalDateTime deletedAt) {
+        jdbcTemplate.update("UPDATE users SET is_deleted = TRUE, deleted_at = ? WHERE id = ?",
+                Timestamp.valueOf(deletedAt), userId);
+    }
+
+    private long countUserRows(Long userId) {
+        return List.of(
+                "SELECT COUNT(*) FROM users WHERE id = ?",
+                "SELECT COUNT(*) FROM onboarding_info WHERE user_id = ?",
+                "SELECT COUNT(*) FROM problem p JOIN onboarding_info o ON p.onboarding_info_id = o.id "
+                        + "WHERE o.user_id = ?",
+                "SELECT COUNT(*) FROM challenge WHERE user_id = ?",
+                "SELECT COUNT(*) FROM challenge_app a JOIN challenge c ON a.challenge_id = c.id WHERE c.user_id = ?",
+                "SELECT COUNT(*) FROM daily_challenge WHERE user_id = ?",
+                "SELECT COUNT(*) FROM history_app h JOIN daily_challenge d ON h.daily_challenge_id = d.id "
+                        + "WHERE d.user_id = ?"
+        ).stream().mapToLong(sql -> jdbcTemplate.queryForObject(sql, Long.class, userId)).sum();
+    }
+}
@@ -0,0 +1,114 @@
+package sopt.org.hmh.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.domain.user.domain.exception.UserError;
+import sopt.org.hmh.domain.user.domain.exception.UserException;
+import sopt.org.hmh.global.auth.social.SocialPlatform;
+import sopt.org.hmh.support.JpaSliceTest;
+
+/**
+ * 포인트 적립과 사용을 여러 스레드에서 각각의 트랜잭션으로 동시에 실행해 잔액을 검증합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceTest {
+
+    private static final String SOCIAL_ID = "user-service-point";
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.userId = transactionTemplate.execute(
+                status -> userService.addUser(SocialPlatform.KAKAO, SOCIAL_ID, "user").getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("적립과 사용이 동시에 일어나도 갱신이 유실되지 않고 잔액이 정확하다")
+    void keepsExactBalanceUnderConcurrentUpdates() throws Exception {
+        this.changePoint(1_000);
+        int operationsPerKind = 200;
+
+        List<Callable<Integer>> operations = new ArrayList<>();
+        for (int i = 0; i < operationsPerKind; i++) {
+            operations.add(() -> transactionTemplate.execute(status -> userService.increasePoint(userId, 20)));
+            operations.add(() -> transactionTemplate.execute(status -> userService.decreasePoint(userId, 10)));
+        }
+        this.runConcurrently(operations);
+
+        assertThat(userService.getPointByUserId(userId)).isEqualTo(1_000 + operationsPerKind * (20 - 10));
+    }
+
+    @Test
+    @DisplayName("잔액보다 많은 동시 사용 요청은 잔액만큼만 성공하고 나머지는 포인트 부족으로 거절한다")
+    void rejectsConcurrentUsageBeyondBalance() throws Exception {
+        this.changePoint(100);
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        List<Callable<Integer>> operations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            operations.add(() -> {
+                try {
+                    return transactionTemplate.execute(status -> userService.decreasePoint(userId, 10));
+                } catch (UserException exception) {
+                    assertThat(exception.getError()).isEqualTo(UserError.NOT_ENOUGH_POINTS);
+                    rejectedCount.incrementAndGet();
+                    return null;
+                }
+            });
+        }
+        this.runConcurrently(operations);
+
+        assertThat(rejectedCount.get()).isEqualTo(10);
+        assertThat(userService.getPointByUserId(userId)).isZero();
+    }
+
+    private void changePoint(int point) {
+        jdbcTemplate.update("UPDATE users SET point = ? WHERE id = ?", point, userId);
+    }
+
+    private void runConcurrently(List<Callable<Integer>> operations) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Integer> result : executorService.invokeAll(operations, 60, TimeUnit.SECONDS)) {
+                result.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import sopt.org.hmh.global.auth.jwt.JwtConstants;
+import sopt.org.hmh.global.auth.jwt.domain.RevokedToken;
+import sopt.org.hmh.global.auth.jwt.dto.TokenResponse;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
+import sopt.org.hmh.global.auth.jwt.repository.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final long ACCESS_TOKEN_EXPIRATION_TIME = 3_600_000L;
+    private static final long REFRESH_TOKEN_EXPIRATION_TIME = 1_209_600_000L;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private final Set<String> revokedTokenIds = ConcurrentHashMap.newKeySet();
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        when(revokedTokenRepository.findAllByIdGreaterThanAndExpiresAtAfter(anyLong(), any())).thenReturn(List.of());
+        when(revokedTokenRepository.existsByTokenId(anyString()))
+                .thenAnswer(invocation -> revokedTokenIds.contains(invocation.<String>getArgument(0)));
+        when(revokedTokenRepository.save(any(RevokedToken.class))).thenAnswer(invocation -> {
+            RevokedToken revokedToken = invocation.getArgument(0);
+            revokedTokenIds.add(revokedToken.getTokenId());
+            return revokedToken;
+        });
+
+        JwtGenerator jwtGenerator = new JwtGenerator();
+        ReflectionTestUtils.setField(jwtGenerator, "JWT_SECRET", "hmh-test-secret-key-which-is-long-enough-for-hs256");
+        ReflectionTestUtils.setField(jwtGenerator, "ACCESS_TOKEN_EXPIRATION_TIME", ACCESS_TOKEN_EXPIRATION_TIME);
+        ReflectionTestUtils.setField(jwtGenerator, "REFRESH_TOKEN_EXPIRATION_TIME", REFRESH_TOKEN_EXPIRATION_TIME);
+        ReflectionTestUtils.setField(jwtGenerator, "ADMIN_ACCESS_TOKEN_EXPIRATION_TIME", ACCESS_TOKEN_EXPIRATION_TIME);
+        jwtGenerator.init();
+
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumSize", 0L);
+        verifiedTokenCache.init();
+
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(revokedTokenRepository);
+        ReflectionTestUtils.setField(tokenRevocationService, "refreshTokenExpirationTime", REFRESH_TOKEN_EXPIRATION_TIME);
+        ReflectionTestUtils.setField(tokenRevocationService, "expectedInsertions", 1_000);
+        ReflectionTestUtils.setField(tokenRevocationService, "falsePositiveProbability", 0.001);
+        tokenRevocationService.init();
+
+        this.tokenService = new TokenService(new JwtProvider(jwtGenerator),
+                new JwtValidator(jwtGenerator, verifiedTokenCache), tokenRevocationService);
+    }
+
+    @Test
+    @DisplayName("재발급에 쓴 리프레시 토큰은 다시 사용할 수 없다")
+    void revokesRefreshTokenUsedForReissue() {
+        TokenResponse loginToken = tokenService.issueToken("1");
+
+        tokenService.reissueToken(bearer(loginToken.refreshToken()));
+
+        assertRevoked(loginToken.refreshToken());
+    }
+
+    @Test
+    @DisplayName("재발급 뒤 로그아웃하면 이전에 발급된 모든 리프레시 토큰이 폐기된다")
+    void revokesEveryEarlierRefreshTokenOnLogout() {
+        TokenResponse loginToken = tokenService.issueToken("1");
+        TokenResponse firstReissuedToken =
+                tokenService.reissueToken(bearer(loginToken.refreshToken())).tokenResponse();
+        TokenResponse secondReissuedToken =
+                tokenService.reissueToken(bearer(firstReissuedToken.refreshToken())).tokenResponse();
+
+        tokenService.revokeToken(bearer(secondReissuedToken.accessToken()));
+
+        assertRevoked(loginToken.refreshToken());
+        assertRevoked(firstReissuedToken.refreshToken());
+        assertRevoked(secondReissuedToken.refreshToken());
+        assertThat(revokedTokenIds).hasSize(3);
+    }
+
+    private void assertRevoked(String refreshToken) {
+        assertThatThrownBy(() -> tokenService.reissueToken(bearer(refreshToken)))
+                .isInstanceOf(JwtException.class)
+                .extracting(exception -> ((JwtException) exception).getError())
+                .isEqualTo(JwtError.REVOKED_TOKEN);
+    }
+
+    private static String bearer(String token) {
+        return JwtConstants.BEARER + token;
+    }
+}
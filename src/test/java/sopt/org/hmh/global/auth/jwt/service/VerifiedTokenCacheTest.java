@@ -0,0 +1,101 @@
+package sopt.org.hmh.global.auth.jwt.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import sopt.org.hmh.global.auth.jwt.dto.VerifiedToken;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger verificationCount;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.verificationCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("캐시를 켜면 같은 토큰은 한 번만 서명을 검증한다")
+    void verifiesSameTokenOnce() {
+        VerifiedTokenCache verifiedTokenCache = createCache(true);
+        Function<String, VerifiedToken> verifier = countingVerifier(Instant.now().plusSeconds(60));
+
+        for (int i = 0; i < 100; i++) {
+            verifiedTokenCache.get(TOKEN, verifier);
+        }
+
+        assertThat(verificationCount.get()).isEqualTo(1);
+        assertThat(getCount("hit")).isEqualTo(99);
+        assertThat(getCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지난 항목은 캐시에서 제외되어 다시 검증한다")
+    void evictsEntryAtTokenExpiration() {
+        VerifiedTokenCache verifiedTokenCache = createCache(true);
+        Function<String, VerifiedToken> verifier = countingVerifier(Instant.now().minusSeconds(1));
+
+        verifiedTokenCache.get(TOKEN, verifier);
+        verifiedTokenCache.get(TOKEN, verifier);
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서로 다른 토큰은 각각 검증한다")
+    void verifiesDifferentTokensSeparately() {
+        VerifiedTokenCache verifiedTokenCache = createCache(true);
+        Function<String, VerifiedToken> verifier = countingVerifier(Instant.now().plusSeconds(60));
+
+        verifiedTokenCache.get(TOKEN, verifier);
+        verifiedTokenCache.get(TOKEN + "2", verifier);
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 서명을 검증한다")
+    void verifiesEveryTimeWhenDisabled() {
+        VerifiedTokenCache verifiedTokenCache = createCache(false);
+        Function<String, VerifiedToken> verifier = countingVerifier(Instant.now().plusSeconds(60));
+
+        verifiedTokenCache.get(TOKEN, verifier);
+        verifiedTokenCache.get(TOKEN, verifier);
+
+        assertThat(verificationCount.get()).isEqualTo(2);
+    }
+
+    private VerifiedTokenCache createCache(boolean enabled) {
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(meterRegistry);
+        ReflectionTestUtils.setField(verifiedTokenCache, "enabled", enabled);
+        ReflectionTestUtils.setField(verifiedTokenCache, "maximumSize", 100L);
+        verifiedTokenCache.init();
+        return verifiedTokenCache;
+    }
+
+    private Function<String, VerifiedToken> countingVerifier(Instant expiration) {
+        return token -> {
+            verificationCount.incrementAndGet();
+            return new VerifiedToken("token-id", "1", expiration);
+        };
+    }
+
+    private double getCount(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.verified-token")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
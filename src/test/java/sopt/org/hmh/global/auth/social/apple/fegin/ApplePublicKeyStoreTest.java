@@ -0,0 +1,146 @@
+package sopt.org.hmh.global.auth.social.apple.fegin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
+
+/**
+ * 로컬 스텁 JWKS 서버를 띄워 애플 퍼블릭 키 저장소의 캐시·갱신 동작을 검증합니다.
+ */
+class ApplePublicKeyStoreTest {
+
+    private static final String ALG = "RS256";
+
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private final AtomicReference<String> cacheControl = new AtomicReference<>("max-age=3600");
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private HttpServer stubJwksServer;
+    private ApplePublicKeyStore applePublicKeyStore;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.stubJwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubJwksServer.createContext("/auth/keys", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl.get());
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubJwksServer.start();
+
+        HttpMessageConverters messageConverters = new HttpMessageConverters(new MappingJackson2HttpMessageConverter());
+        AppleFeignClient appleFeignClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder(new ResponseEntityDecoder(new SpringDecoder(() -> messageConverters)))
+                .target(AppleFeignClient.class, "http://localhost:" + stubJwksServer.getAddress().getPort());
+
+        this.applePublicKeyStore = new ApplePublicKeyStore(appleFeignClient, new ApplePublicKeyGenerator());
+        ReflectionTestUtils.setField(applePublicKeyStore, "defaultMaxAgeSeconds", 3600L);
+        ReflectionTestUtils.setField(applePublicKeyStore, "refreshBeforeSeconds", 300L);
+        ReflectionTestUtils.setField(applePublicKeyStore, "minRefetchIntervalSeconds", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubJwksServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("캐시 유효 시간 안에서는 퍼블릭 키를 한 번만 받아온다")
+    void fetchesOnceWithinMaxAge() throws Exception {
+        RSAPublicKey publicKey = generateRsaPublicKey();
+        jwksBody.set(jwks(jwk("kid-1", publicKey)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(applePublicKeyStore.getPublicKey("kid-1", ALG)).isEqualTo(publicKey);
+        }
+
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 유효 시간이 지나면 다시 받아온다")
+    void refetchesAfterMaxAge() throws Exception {
+        cacheControl.set("max-age=0");
+        jwksBody.set(jwks(jwk("kid-1", generateRsaPublicKey())));
+
+        applePublicKeyStore.getPublicKey("kid-1", ALG);
+        applePublicKeyStore.getPublicKey("kid-1", ALG);
+
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid가 오면 한 번 다시 받아와 교체된 키를 찾는다")
+    void refetchesOnceForUnknownKid() throws Exception {
+        jwksBody.set(jwks(jwk("kid-1", generateRsaPublicKey())));
+        applePublicKeyStore.getPublicKey("kid-1", ALG);
+
+        RSAPublicKey rotatedKey = generateRsaPublicKey();
+        jwksBody.set(jwks(jwk("kid-2", rotatedKey)));
+
+        assertThat(applePublicKeyStore.getPublicKey("kid-2", ALG)).isEqualTo(rotatedKey);
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최근에 받아왔다면 모르는 kid가 반복돼도 다시 받아오지 않는다")
+    void doesNotRefetchRepeatedlyForUnknownKid() throws Exception {
+        ReflectionTestUtils.setField(applePublicKeyStore, "minRefetchIntervalSeconds", 60L);
+        jwksBody.set(jwks(jwk("kid-1", generateRsaPublicKey())));
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> applePublicKeyStore.getPublicKey("unknown-kid", ALG))
+                    .isInstanceOf(JwtException.class);
+        }
+
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    private static RSAPublicKey generateRsaPublicKey() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        PublicKey publicKey = keyPairGenerator.generateKeyPair().getPublic();
+        return (RSAPublicKey) publicKey;
+    }
+
+    private static String jwks(String... jwks) {
+        return "{\"keys\":[" + String.join(",", jwks) + "]}";
+    }
+
+    private static String jwk(String kid, RSAPublicKey publicKey) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "{\"kty\":\"RSA\",\"kid\":\"" + kid + "\",\"use\":\"sig\",\"alg\":\"" + ALG + "\","
+                + "\"n\":\"" + encoder.encodeToString(publicKey.getModulus().toByteArray()) + "\","
+                + "\"e\":\"" + encoder.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}";
+    }
+}
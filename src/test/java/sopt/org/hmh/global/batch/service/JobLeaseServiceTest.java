@@ -0,0 +1,109 @@
+package sopt.org.hmh.global.batch.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import sopt.org.hmh.global.batch.repository.JobLeaseRepository;
+import sopt.org.hmh.support.JpaSliceTest;
+
+/**
+ * 같은 DB를 바라보는 JobLeaseService 두 개를 두 인스턴스의 스케줄러로 보고 리스 동작을 검증합니다.
+ */
+@JpaSliceTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobLeaseServiceTest {
+
+    private static final String JOB_NAME = "job-lease-test";
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<JobLeaseService> jobLeaseServices = new ArrayList<>();
+    private final AtomicInteger executionCount = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        jobLeaseServices.forEach(JobLeaseService::shutdown);
+        jdbcTemplate.update("DELETE FROM job_lease");
+    }
+
+    @Test
+    @DisplayName("두 인스턴스가 동시에 시작해도 한 곳에서만 작업을 실행한다")
+    void runsOnceWhenStartedConcurrently() throws Exception {
+        JobLeaseService first = this.createJobLeaseService(300);
+        JobLeaseService second = this.createJobLeaseService(300);
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> firstResult = executorService.submit(this.runAfter(startLatch, first));
+            Future<Boolean> secondResult = executorService.submit(this.runAfter(startLatch, second));
+            startLatch.countDown();
+
+            assertThat(List.of(firstResult.get(10, TimeUnit.SECONDS), secondResult.get(10, TimeUnit.SECONDS)))
+                    .containsExactlyInAnyOrder(true, false);
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스가 남아 있는 동안 다른 인스턴스는 실행하지 않고, 보유한 인스턴스는 다음 회차를 실행한다")
+    void skipsWhileLeaseIsHeldByAnotherInstance() {
+        JobLeaseService first = this.createJobLeaseService(300);
+        JobLeaseService second = this.createJobLeaseService(300);
+
+        assertThat(first.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isTrue();
+        assertThat(second.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isFalse();
+        assertThat(first.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isTrue();
+
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("리스 TTL이 지나면 다른 인스턴스가 리스를 이어받는다")
+    void takesOverExpiredLease() throws InterruptedException {
+        JobLeaseService first = this.createJobLeaseService(1);
+        JobLeaseService second = this.createJobLeaseService(1);
+
+        assertThat(first.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isTrue();
+        assertThat(second.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isFalse();
+
+        TimeUnit.MILLISECONDS.sleep(1_100);
+
+        assertThat(second.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isTrue();
+        assertThat(first.runWithLease(JOB_NAME, executionCount::incrementAndGet)).isFalse();
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    private JobLeaseService createJobLeaseService(long leaseTtlSeconds) {
+        JobLeaseService jobLeaseService = new JobLeaseService(jobLeaseRepository, leaseTtlSeconds);
+        jobLeaseServices.add(jobLeaseService);
+        return jobLeaseService;
+    }
+
+    private Callable<Boolean> runAfter(CountDownLatch startLatch, JobLeaseService jobLeaseService) {
+        return () -> {
+            startLatch.await();
+            return jobLeaseService.runWithLease(JOB_NAME, executionCount::incrementAndGet);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package sopt.org.hmh.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 마이그레이션으로 만든 MySQL 스키마에서 자주 실행되는 쿼리가 전체 테이블 스캔을 하지 않는지 EXPLAIN으로 확인합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FlywayMigrationIndexTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {
+            "SELECT * FROM daily_challenge WHERE challenge_date = CURDATE() AND user_id = 10",
+            "SELECT 1 FROM daily_challenge WHERE user_id = 10 AND challenge_date IN (CURDATE(), CURDATE() + INTERVAL 1 DAY) LIMIT 1",
+            "SELECT challenge_date, status FROM daily_challenge WHERE challenge_id = 10 ORDER BY challenge_date",
+            "SELECT * FROM challenge_app WHERE challenge_id = 10 AND app_code IN ('com.hmh.app0', 'com.hmh.app1')",
+            "SELECT * FROM challenge_app WHERE challenge_id = 10 AND app_code = 'com.hmh.app0' AND os = 'android'",
+            "SELECT * FROM history_app WHERE daily_challenge_id IN (10, 11)",
+            "SELECT * FROM users WHERE social_platform = 'KAKAO' AND social_id = 'social-10'",
+            "SELECT id FROM users WHERE deleted_at < NOW() AND is_deleted = TRUE AND id > 0 ORDER BY id LIMIT 500",
+            "SELECT id FROM challenge WHERE user_id IN (10, 20)",
+            "SELECT id FROM onboarding_info WHERE user_id IN (10, 20)",
+            "SELECT id FROM problem WHERE onboarding_info_id IN (10, 20)",
+            "DELETE FROM revoked_token WHERE expires_at < NOW()"
+    })
+    void hotQueryDoesNotScanWholeTable(String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan).isNotEmpty()
+                .allSatisfy(row -> assertThat(row.get("type")).as(row.toString()).isNotEqualTo("ALL"));
+    }
+
+    // 행이 거의 없으면 옵티마이저가 인덱스 대신 전체 스캔을 고르므로, 회원 1000명 규모의 데이터를 넣고 통계를 갱신합니다.
+    private static void seed() {
+        jdbcTemplate.update("INSERT INTO users (social_platform, social_id, point, is_deleted, deleted_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) "
+                + "SELECT 'KAKAO', CONCAT('social-', n), 0, n % 10 = 0, "
+                + "IF(n % 10 = 0, NOW() - INTERVAL n HOUR, NULL) FROM seq");
+        jdbcTemplate.update("INSERT INTO onboarding_info (average_use_time, user_id) SELECT '3시간', id FROM users");
+        jdbcTemplate.update("INSERT INTO problem (onboarding_info_id, problem) SELECT id, 'SNS' FROM onboarding_info");
+        jdbcTemplate.update("INSERT INTO challenge (user_id, period, goal_time, start_date) "
+                + "SELECT id, 7, 3600000, CURDATE() FROM users");
+        jdbcTemplate.update("INSERT INTO daily_challenge (challenge_id, status, user_id, goal_time, challenge_date) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 6) "
+                + "SELECT c.id, 'NONE', c.user_id, c.goal_time, c.start_date + INTERVAL seq.n DAY "
+                + "FROM challenge c CROSS JOIN seq");
+        jdbcTemplate.update("INSERT INTO challenge_app (os, app_code, challenge_id, goal_time) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 2) "
+                + "SELECT 'android', CONCAT('com.hmh.app', seq.n), c.id, 1800000 FROM challenge c CROSS JOIN seq");
+        jdbcTemplate.update("INSERT INTO history_app (os, app_code, daily_challenge_id, usage_time, goal_time) "
+                + "SELECT 'android', 'com.hmh.app0', id, 600000, 1800000 FROM daily_challenge");
+        jdbcTemplate.update("INSERT INTO revoked_token (token_id, expires_at) "
+                + "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000) "
+                + "SELECT CONCAT('token-', n), NOW() + INTERVAL n MINUTE FROM seq");
+        jdbcTemplate.execute("ANALYZE TABLE users, onboarding_info, problem, challenge, daily_challenge, "
+                + "challenge_app, history_app, revoked_token");
+    }
+}
@@ -0,0 +1,119 @@
+package sopt.org.hmh.global.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import sopt.org.hmh.global.auth.security.UserAuthentication;
+
+/**
+ * 프라이머리와 레플리카를 각각 H2 인메모리 DB로 띄워 읽기/쓰기 트랜잭션의 라우팅을 검증합니다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private HikariDataSource primaryDataSource;
+    private HikariDataSource replicaDataSource;
+    private ReplicationRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        this.primaryDataSource = createDataSource(PRIMARY, "jdbc:h2:mem:" + PRIMARY + ";DB_CLOSE_DELAY=-1");
+        this.replicaDataSource = createDataSource(REPLICA, "jdbc:h2:mem:" + REPLICA + ";DB_CLOSE_DELAY=-1");
+        initializeDatabase(primaryDataSource, PRIMARY);
+        initializeDatabase(replicaDataSource, REPLICA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        routingDataSource.close();
+        primaryDataSource.close();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로, 쓰기 트랜잭션은 프라이머리로 보낸다")
+    void routesByTransactionReadOnly() {
+        this.routingDataSource = createRoutingDataSource(List.of(replicaDataSource));
+
+        assertThat(readDatabaseName(true)).isEqualTo(REPLICA);
+        assertThat(readDatabaseName(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자만 잠시 프라이머리에서 읽는다")
+    void pinsWritingUserToPrimary() {
+        this.routingDataSource = createRoutingDataSource(List.of(replicaDataSource));
+
+        authenticate("1");
+        readDatabaseName(false);
+        assertThat(readDatabaseName(true)).isEqualTo(PRIMARY);
+
+        authenticate("2");
+        assertThat(readDatabaseName(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("커넥션을 얻지 못한 레플리카는 타임아웃을 기다리지 않고 건너뛴다")
+    void skipsUnhealthyReplicaWithoutWaiting() {
+        replicaDataSource.close();
+        this.replicaDataSource = createDataSource(REPLICA, "jdbc:h2:tcp://localhost:1/unreachable");
+        this.routingDataSource = createRoutingDataSource(List.of(replicaDataSource));
+
+        assertThat(readDatabaseName(true)).isEqualTo(PRIMARY);
+
+        long start = System.nanoTime();
+        assertThat(readDatabaseName(true)).isEqualTo(PRIMARY);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(200));
+    }
+
+    private ReplicationRoutingDataSource createRoutingDataSource(List<HikariDataSource> replicaDataSources) {
+        return new ReplicationRoutingDataSource(primaryDataSource, replicaDataSources, true,
+                Duration.ofSeconds(5), Duration.ofSeconds(10));
+    }
+
+    private String readDatabaseName(boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(
+                status -> jdbcTemplate.queryForObject("SELECT name FROM database_name", String.class));
+    }
+
+    private static void authenticate(String userId) {
+        SecurityContextHolder.getContext().setAuthentication(UserAuthentication.createUserAuthentication(userId));
+    }
+
+    private static HikariDataSource createDataSource(String poolName, String url) {
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(poolName);
+        hikariConfig.setJdbcUrl(url);
+        hikariConfig.setUsername("sa");
+        hikariConfig.setMaximumPoolSize(2);
+        hikariConfig.setConnectionTimeout(250);
+        hikariConfig.setInitializationFailTimeout(-1);
+        return new HikariDataSource(hikariConfig);
+    }
+
+    private static void initializeDatabase(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS database_name (name VARCHAR(20))");
+        jdbcTemplate.update("DELETE FROM database_name");
+        jdbcTemplate.update("INSERT INTO database_name (name) VALUES (?)", name);
+    }
+}
@@ -0,0 +1,175 @@
+package sopt.org.hmh.global.config.feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sopt.org.hmh.global.auth.jwt.exception.JwtError;
+import sopt.org.hmh.global.auth.jwt.exception.JwtException;
+
+/**
+ * 응답을 지연시키는 로컬 스텁 서버로 bulkhead와 서킷 브레이커 동작을 검증합니다.
+ */
+class ResilientFeignClientTest {
+
+    private static final String CLIENT_NAME = "stubClient";
+    private static final Request.Options OPTIONS =
+            new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true);
+
+    private final AtomicLong responseDelayMillis = new AtomicLong();
+    private final CountDownLatch requestReceived = new CountDownLatch(1);
+
+    private HttpServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.stubServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.createContext("/", exchange -> {
+            requestReceived.countDown();
+            sleep(responseDelayMillis.get());
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        stubServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘는 요청은 기다리지 않고 거절한다")
+    void rejectsCallsBeyondBulkheadLimit() throws Exception {
+        responseDelayMillis.set(500);
+        ResilientFeignClient client = createClient(new Client.Default(null, null), createCircuitBreaker(10));
+
+        CompletableFuture<Response> firstCall = CompletableFuture.supplyAsync(() -> execute(client));
+        assertThat(requestReceived.await(1, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.execute(createRequest(), OPTIONS))
+                .isInstanceOf(JwtException.class)
+                .extracting(exception -> ((JwtException) exception).getError())
+                .isEqualTo(JwtError.SOCIAL_PLATFORM_UNAVAILABLE);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(200));
+
+        assertThat(firstCall.get(2, TimeUnit.SECONDS).status()).isEqualTo(200);
+        assertThat(getRejectedCount("bulkhead_full")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 호출이 이어지면 회로를 열고 이후 요청은 즉시 실패시킨다")
+    void opensCircuitOnSlowCalls() throws IOException {
+        responseDelayMillis.set(300);
+        CircuitBreaker circuitBreaker = createCircuitBreaker(2);
+        ResilientFeignClient client = createClient(new Client.Default(null, null), circuitBreaker);
+
+        client.execute(createRequest(), OPTIONS);
+        client.execute(createRequest(), OPTIONS);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.execute(createRequest(), OPTIONS))
+                .isInstanceOf(JwtException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(getRejectedCount("circuit_open")).isEqualTo(1);
+        assertThat(meterRegistry.get("social.client.circuit.open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태에서 Error가 나도 결과를 기록해 회로가 멈추지 않는다")
+    void recordsErrorsInHalfOpenState() {
+        CircuitBreaker circuitBreaker = createCircuitBreaker(2);
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        Client failingDelegate = (request, options) -> {
+            throw new StackOverflowError();
+        };
+        ResilientFeignClient client = createClient(failingDelegate, circuitBreaker);
+
+        assertThatThrownBy(() -> client.execute(createRequest(), OPTIONS))
+                .isInstanceOf(StackOverflowError.class);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private ResilientFeignClient createClient(Client delegate, CircuitBreaker circuitBreaker) {
+        Bulkhead bulkhead = Bulkhead.of(CLIENT_NAME, BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        return new ResilientFeignClient(delegate, bulkhead, circuitBreaker, meterRegistry, CLIENT_NAME);
+    }
+
+    private CircuitBreaker createCircuitBreaker(int slidingWindowSize) {
+        return CircuitBreaker.of(CLIENT_NAME, CircuitBreakerConfig.custom()
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .slowCallDurationThreshold(Duration.ofMillis(100))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .permittedNumberOfCallsInHalfOpenState(1)
+                .build());
+    }
+
+    private Request createRequest() {
+        return Request.create(Request.HttpMethod.GET,
+                "http://localhost:" + stubServer.getAddress().getPort() + "/",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private Response execute(Client client) {
+        try {
+            return client.execute(createRequest(), OPTIONS);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private double getRejectedCount(String reason) {
+        return meterRegistry.get("social.client.rejected")
+                .tag("client", CLIENT_NAME)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package sopt.org.hmh.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * H2(MySQL 모드) 위에서 JPA 계층과 서비스를 함께 띄우는 테스트입니다.
+ * 모든 테스트가 같은 컨텍스트를 재사용하도록 필요한 빈은 {@link JpaSliceTestConfiguration}에만 추가합니다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@ContextConfiguration(classes = JpaSliceTestConfiguration.class)
+@ExtendWith(RequestContextExtension.class)
+public @interface JpaSliceTest {
+}
@@ -0,0 +1,87 @@
+package sopt.org.hmh.support;
+
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.config.CustomScopeConfigurer;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestScope;
+import sopt.org.hmh.HmhApplication;
+import sopt.org.hmh.domain.app.repository.challenge_app.ChallengeAppRepositoryImpl;
+import sopt.org.hmh.domain.app.service.ChallengeAppService;
+import sopt.org.hmh.domain.app.service.HistoryAppService;
+import sopt.org.hmh.domain.auth.service.AuthFacade;
+import sopt.org.hmh.domain.auth.service.AuthService;
+import sopt.org.hmh.domain.challenge.repository.ChallengeRepositoryImpl;
+import sopt.org.hmh.domain.challenge.service.ChallengeFacade;
+import sopt.org.hmh.domain.challenge.service.ChallengeService;
+import sopt.org.hmh.domain.dailychallenge.repository.DailyChallengeRepositoryImpl;
+import sopt.org.hmh.domain.dailychallenge.service.DailyChallengeFacade;
+import sopt.org.hmh.domain.dailychallenge.service.DailyChallengeService;
+import sopt.org.hmh.domain.point.service.PointFacade;
+import sopt.org.hmh.domain.user.service.CurrentUserContext;
+import sopt.org.hmh.domain.user.service.ExpiredUserPurgeJob;
+import sopt.org.hmh.domain.user.service.UserService;
+import sopt.org.hmh.global.auth.jwt.service.TokenService;
+import sopt.org.hmh.global.auth.social.SocialUserInfoCache;
+import sopt.org.hmh.global.auth.social.apple.fegin.AppleOAuthProvider;
+import sopt.org.hmh.global.auth.social.kakao.fegin.KakaoLoginService;
+import sopt.org.hmh.global.batch.service.ChunkedJobRunner;
+import sopt.org.hmh.global.config.HibernateCacheConfig;
+import sopt.org.hmh.global.config.JpaAuditingConfig;
+import sopt.org.hmh.global.config.QuerydslConfiguration;
+
+/**
+ * {@link JpaSliceTest}가 사용하는 컨텍스트 구성입니다.
+ * 외부 호출(소셜 플랫폼, 토큰 발급)은 목으로 대신하고, 요청 스코프는 {@link RequestContextExtension}이 묶은 요청을 사용합니다.
+ */
+@Configuration
+@AutoConfigurationPackage(basePackageClasses = HmhApplication.class)
+@Import({
+        QuerydslConfiguration.class, JpaAuditingConfig.class, HibernateCacheConfig.class,
+        ChallengeRepositoryImpl.class, DailyChallengeRepositoryImpl.class, ChallengeAppRepositoryImpl.class,
+        UserService.class, CurrentUserContext.class, ChallengeService.class, DailyChallengeService.class,
+        ChallengeAppService.class, HistoryAppService.class, ChallengeFacade.class, DailyChallengeFacade.class,
+        PointFacade.class,
+        AuthService.class, AuthFacade.class, SocialUserInfoCache.class,
+        ChunkedJobRunner.class, ExpiredUserPurgeJob.class
+})
+public class JpaSliceTestConfiguration {
+
+    @Bean
+    public static StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    public static CustomScopeConfigurer requestScopeConfigurer() {
+        CustomScopeConfigurer customScopeConfigurer = new CustomScopeConfigurer();
+        customScopeConfigurer.addScope(WebApplicationContext.SCOPE_REQUEST, new RequestScope());
+        return customScopeConfigurer;
+    }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public TokenService tokenService() {
+        return mock(TokenService.class);
+    }
+
+    @Bean
+    public KakaoLoginService kakaoLoginService() {
+        return mock(KakaoLoginService.class);
+    }
+
+    @Bean
+    public AppleOAuthProvider appleOAuthProvider() {
+        return mock(AppleOAuthProvider.class);
+    }
+}
@@ -0,0 +1,41 @@
+package sopt.org.hmh.support;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 테스트마다 요청 스코프 빈이 사용할 요청을 현재 스레드에 묶고, 테스트가 끝나면 요청을 종료합니다.
+ */
+public class RequestContextExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        startNewRequest();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        completeRequest();
+    }
+
+    /**
+     * 진행 중인 요청을 끝내고 새 요청을 시작합니다. 요청 스코프에 남은 값 없이 다음 호출을 측정할 때 사용합니다.
+     */
+    public static void startNewRequest() {
+        completeRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    private static void completeRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes instanceof ServletRequestAttributes servletRequestAttributes) {
+            servletRequestAttributes.requestCompleted();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
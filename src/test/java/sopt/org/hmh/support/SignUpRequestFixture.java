@@ -0,0 +1,42 @@
+package sopt.org.hmh.support;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import sopt.org.hmh.domain.app.dto.request.ChallengeAppRequest;
+import sopt.org.hmh.domain.auth.dto.request.OnboardingRequest;
+import sopt.org.hmh.domain.auth.dto.request.SocialSignUpRequest;
+import sopt.org.hmh.domain.challenge.dto.request.ChallengeSignUpRequest;
+import sopt.org.hmh.global.auth.social.SocialPlatform;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public abstract class SignUpRequestFixture {
+
+    public static final String OS = "android";
+    public static final String TIME_ZONE = "Asia/Seoul";
+    public static final Long CHALLENGE_GOAL_TIME = 3_600_000L;
+    public static final Long APP_GOAL_TIME = 1_800_000L;
+    public static final List<String> PROBLEMS = List.of("SNS", "유튜브", "게임");
+
+    public static SocialSignUpRequest create(int period, List<String> appCodes) {
+        return new SocialSignUpRequest(
+                SocialPlatform.KAKAO,
+                "user",
+                new OnboardingRequest("3시간", PROBLEMS),
+                new ChallengeSignUpRequest(period, CHALLENGE_GOAL_TIME, challengeApps(appCodes))
+        );
+    }
+
+    public static List<String> appCodes(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> "com.hmh.app" + i)
+                .toList();
+    }
+
+    public static List<ChallengeAppRequest> challengeApps(List<String> appCodes) {
+        return appCodes.stream()
+                .map(appCode -> new ChallengeAppRequest(appCode, APP_GOAL_TIME))
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package sopt.org.hmh.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * 데이터소스를 감싸 DB로 보낸 SQL을 실행 순서대로 기록합니다.
+ * JDBC 배치는 한 번의 실행으로 기록되므로, 테이블별 왕복 횟수를 셀 수 있습니다.
+ */
+public class StatementRecorder implements BeanPostProcessor, QueryExecutionListener {
+
+    private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(this)
+                    .build();
+        }
+        return bean;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        if (!queryInfoList.isEmpty()) {
+            statements.add(queryInfoList.get(0).getQuery().trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<String> getStatements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    public long countSelects() {
+        return this.count(statement -> statement.startsWith("select"));
+    }
+
+    public long countSelectsFrom(String table) {
+        Pattern pattern = Pattern.compile("\\bfrom\\s+" + table + "\\b");
+        return this.count(statement -> statement.startsWith("select") && pattern.matcher(statement).find());
+    }
+
+    public long countInsertsInto(String table) {
+        Pattern pattern = Pattern.compile("^insert\\s+into\\s+" + table + "\\b");
+        return this.count(statement -> pattern.matcher(statement).find());
+    }
+
+    public long countDeletes() {
+        return this.count(statement -> statement.startsWith("delete"));
+    }
+
+    private long count(Predicate<String> condition) {
+        return this.getStatements().stream().filter(condition).count();
+    }
+}